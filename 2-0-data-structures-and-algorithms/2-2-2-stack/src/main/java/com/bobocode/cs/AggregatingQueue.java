@@ -0,0 +1,124 @@
+package com.bobocode.cs;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * {@link AggregatingQueue} is a FIFO queue that keeps an aggregate of all its elements, e.g. min, max or sum, which
+ * makes it a building block for sliding window aggregates. It is based on two {@link AggregatingStack}s. New elements
+ * are pushed onto the back stack. Elements are popped from the front stack, and when it is empty, all elements are
+ * moved there from the back stack, which reverses their order. Each element is moved once, so
+ * {@link AggregatingQueue#poll()} is performed in amortized constant time O(1).
+ * <p>
+ * The aggregate of the queue combines the aggregates of both stacks, so {@link AggregatingQueue#aggregate()} is
+ * performed in constant time O(1). The front stack applies the operator with swapped arguments, so that the operator is
+ * always applied in the queue order, and it does not need to be commutative.
+ *
+ * @param <T> generic type parameter
+ */
+public class AggregatingQueue<T> {
+
+    private final BinaryOperator<T> operator;
+
+    private final AggregatingStack<T> front;
+
+    private final AggregatingStack<T> back;
+
+    /**
+     * This constructor creates an instance of {@link AggregatingQueue} with a specific aggregate operator.
+     *
+     * @param operator an associative operator that combines two values into one
+     */
+    public AggregatingQueue(BinaryOperator<T> operator) {
+        this.operator = Objects.requireNonNull(operator);
+        this.front = new AggregatingStack<>((older, newer) -> operator.apply(newer, older));
+        this.back = new AggregatingStack<>(operator);
+    }
+
+    /**
+     * Creates an empty queue that keeps the minimum of its elements.
+     *
+     * @param comparator defines an order of elements
+     * @param <T>        generic type
+     * @return a new queue
+     */
+    public static <T> AggregatingQueue<T> min(Comparator<? super T> comparator) {
+        return new AggregatingQueue<>(BinaryOperator.minBy(comparator));
+    }
+
+    /**
+     * Creates an empty queue that keeps the maximum of its elements.
+     *
+     * @param comparator defines an order of elements
+     * @param <T>        generic type
+     * @return a new queue
+     */
+    public static <T> AggregatingQueue<T> max(Comparator<? super T> comparator) {
+        return new AggregatingQueue<>(BinaryOperator.maxBy(comparator));
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     */
+    public void add(T element) {
+        back.push(element);
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    public T poll() {
+        if (front.isEmpty()) {
+            while (!back.isEmpty()) {
+                front.push(back.pop());
+            }
+            if (front.isEmpty()) {
+                return null;
+            }
+        }
+        return front.pop();
+    }
+
+    /**
+     * Returns the aggregate of all elements in the queue. Operation is performed in constant time O(1)
+     *
+     * @return the aggregate of all elements
+     * @throws NoSuchElementException if queue is empty
+     */
+    public T aggregate() {
+        if (front.isEmpty() && back.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        if (front.isEmpty()) {
+            return back.aggregate();
+        }
+        if (back.isEmpty()) {
+            return front.aggregate();
+        }
+        return operator.apply(front.aggregate(), back.aggregate());
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    public int size() {
+        return front.size() + back.size();
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    public boolean isEmpty() {
+        return front.isEmpty() && back.isEmpty();
+    }
+}
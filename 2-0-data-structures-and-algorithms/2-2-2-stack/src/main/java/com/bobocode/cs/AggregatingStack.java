@@ -0,0 +1,148 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * {@link AggregatingStack} is an array-based stack that keeps an aggregate of all its elements, e.g. min, max or sum.
+ * The aggregate is defined by an associative operator. Next to each element the stack stores the aggregate of this
+ * element and all elements below it, so {@link AggregatingStack#push(Object)} applies the operator once,
+ * {@link AggregatingStack#pop()} simply drops the top aggregate, and {@link AggregatingStack#aggregate()} is performed
+ * in constant time O(1) without rescanning the stack.
+ * <p>
+ * The operator is applied in the push order: after pushing {@code a}, {@code b} and {@code c} the aggregate is
+ * {@code op(op(a, b), c)}. The operator does not need to be commutative.
+ *
+ * @param <T> generic type parameter
+ */
+public class AggregatingStack<T> implements Stack<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final BinaryOperator<T> operator;
+
+    private T[] elements;
+
+    private T[] aggregates;
+
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link AggregatingStack} with a specific aggregate operator.
+     *
+     * @param operator an associative operator that combines two values into one
+     */
+    @SuppressWarnings("unchecked")
+    public AggregatingStack(BinaryOperator<T> operator) {
+        this.operator = Objects.requireNonNull(operator);
+        this.elements = (T[]) new Object[DEFAULT_CAPACITY];
+        this.aggregates = (T[]) new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates an empty stack that keeps the minimum of its elements.
+     *
+     * @param comparator defines an order of elements
+     * @param <T>        generic type
+     * @return a new stack
+     */
+    public static <T> AggregatingStack<T> min(Comparator<? super T> comparator) {
+        return new AggregatingStack<>(BinaryOperator.minBy(comparator));
+    }
+
+    /**
+     * Creates an empty stack that keeps the maximum of its elements.
+     *
+     * @param comparator defines an order of elements
+     * @param <T>        generic type
+     * @return a new stack
+     */
+    public static <T> AggregatingStack<T> max(Comparator<? super T> comparator) {
+        return new AggregatingStack<>(BinaryOperator.maxBy(comparator));
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack and combines it with the current aggregate.
+     *
+     * @param element elements to add
+     */
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size + (size >> 1));
+            aggregates = Arrays.copyOf(aggregates, elements.length);
+        }
+        elements[size] = element;
+        aggregates[size] = size == 0 ? element : operator.apply(aggregates[size - 1], element);
+        size++;
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        T element = elements[--size];
+        elements[size] = null;
+        aggregates[size] = null;
+        return element;
+    }
+
+    /**
+     * Returns the object at the top of this stack without removing it.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    public T peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[size - 1];
+    }
+
+    /**
+     * Returns the aggregate of all elements in the stack. Operation is performed in constant time O(1)
+     *
+     * @return the aggregate of all elements
+     * @throws EmptyStackException - if this stack is empty
+     */
+    public T aggregate() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return aggregates[size - 1];
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,176 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link ArrayStack} is a stack implementation that is based on a resizable array. Unlike {@link LinkedStack}, it does
+ * not allocate a node for every pushed element: {@link ArrayStack#push(Object)} writes to the next free slot, and
+ * {@link ArrayStack#pop()} clears the last used one. When the array is full, it is replaced with an array that is one
+ * and a half times larger, so push is performed in amortized constant time O(1).
+ *
+ * @param <T> generic type parameter
+ */
+public class ArrayStack<T> implements Stack<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private T[] elements;
+
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link ArrayStack} with a default capacity that is 16.
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * This constructor creates an instance of {@link ArrayStack} with a specific initial capacity.
+     *
+     * @param initCapacity the initial capacity of the stack
+     * @throws IllegalArgumentException if the specified initial capacity is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayStack(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        elements = (T[]) new Object[initCapacity];
+    }
+
+    /**
+     * This method creates a stack of provided elements. The last element ends up on the top of the stack. The stack
+     * is created with enough capacity, so the elements are pushed one by one without resizing.
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> ArrayStack<T> of(T... elements) {
+        ArrayStack<T> arrayStack = new ArrayStack<>(Math.max(elements.length, 1));
+        for (T element : elements) {
+            arrayStack.push(element);
+        }
+        return arrayStack;
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack.
+     *
+     * @param element elements to add
+     */
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Pushes all provided elements in their order, so the last one ends up on the top of the stack. The array is
+     * resized at most once, and all elements are copied with a single {@link System#arraycopy} call.
+     *
+     * @param newElements elements to add
+     */
+    public void pushAll(T[] newElements) {
+        for (T element : newElements) {
+            Objects.requireNonNull(element);
+        }
+        if (newElements.length > elements.length - size) {
+            grow((long) size + newElements.length);
+        }
+        System.arraycopy(newElements, 0, elements, size, newElements.length);
+        size += newElements.length;
+    }
+
+    private void grow(long minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Stack capacity limit reached");
+        }
+        long newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+        elements = Arrays.copyOf(elements, (int) Math.min(newCapacity, MAX_CAPACITY));
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        T element = elements[--size];
+        elements[size] = null;
+        return element;
+    }
+
+    /**
+     * Removes {@code n} elements from the top of this stack in one step and passes them to the consumer, starting from
+     * the top one.
+     *
+     * @param n        number of elements to remove
+     * @param consumer accepts removed elements
+     * @throws EmptyStackException - if this stack has less than {@code n} elements
+     */
+    public void popN(int n, Consumer<? super T> consumer) {
+        if (n < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (n > size) {
+            throw new EmptyStackException();
+        }
+        int newSize = size - n;
+        for (int i = size - 1; i >= newSize; i--) {
+            consumer.accept(elements[i]);
+        }
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+    }
+
+    /**
+     * Returns the object at the top of this stack without removing it.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    public T peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[size - 1];
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -22,6 +22,12 @@ public class LinkedStack<T> implements Stack<T> {
 
     private int size;
 
+    private final int maxFreeNodes;
+
+    private Node<T> freeNodes;
+
+    private int freeNodesCount;
+
     private static class Node<T> {
 
         T element;
@@ -37,6 +43,27 @@ public class LinkedStack<T> implements Stack<T> {
         }
     }
 
+    /**
+     * This constructor creates an instance of {@link LinkedStack} that allocates a new node for every added element.
+     */
+    public LinkedStack() {
+        this(0);
+    }
+
+    /**
+     * This constructor creates an instance of {@link LinkedStack} that keeps up to {@code maxFreeNodes} popped nodes
+     * and reuses them in {@link LinkedStack#push(Object)}, so pushing and popping at a steady depth does not allocate.
+     *
+     * @param maxFreeNodes max number of nodes that are kept for reuse
+     * @throws IllegalArgumentException if the specified number is negative
+     */
+    public LinkedStack(int maxFreeNodes) {
+        if (maxFreeNodes < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.maxFreeNodes = maxFreeNodes;
+    }
+
     /**
      * This method creates a stack of provided elements
      *
@@ -59,7 +86,7 @@ public class LinkedStack<T> implements Stack<T> {
     @Override
     public void push(T element) {
         Objects.requireNonNull(element);
-        Node<T> newNode = Node.valueOf(element);
+        Node<T> newNode = newNode(element);
         if (head != null) {
             newNode.next = head;
         }
@@ -67,6 +94,29 @@ public class LinkedStack<T> implements Stack<T> {
         size++;
     }
 
+    private Node<T> newNode(T element) {
+        Node<T> node = freeNodes;
+        if (node == null) {
+            return Node.valueOf(element);
+        }
+        freeNodes = node.next;
+        freeNodesCount--;
+        node.next = null;
+        node.element = element;
+        return node;
+    }
+
+    private void recycle(Node<T> node) {
+        node.element = null;
+        if (freeNodesCount < maxFreeNodes) {
+            node.next = freeNodes;
+            freeNodes = node;
+            freeNodesCount++;
+        } else {
+            node.next = null;
+        }
+    }
+
     /**
      * This method removes the object at the top of this stack
      * and returns that object as the value of this function.
@@ -77,10 +127,11 @@ public class LinkedStack<T> implements Stack<T> {
     @Override
     public T pop() {
         if (head != null) {
-            Node<T> currentHead = head.next;
+            Node<T> poppedNode = head;
             T returnElement = head.element;
-            head = currentHead;
+            head = head.next;
             size--;
+            recycle(poppedNode);
             return returnElement;
         } else throw new EmptyStackException();
     }
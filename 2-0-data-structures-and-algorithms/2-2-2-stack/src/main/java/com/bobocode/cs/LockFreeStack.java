@@ -0,0 +1,193 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link LockFreeStack} is a thread-safe stack that is based on singly linked generic nodes and does not use locks
+ * (Treiber stack). {@link LockFreeStack#push(Object)} and {@link LockFreeStack#pop()} replace the head node with CAS
+ * and retry if another thread has changed it in between.
+ * <p>
+ * Under high contention most CAS attempts on the head fail, so a thread that has failed tries elimination first. A
+ * pushing thread offers its node in a random slot of a small elimination array and waits there for a while. A popping
+ * thread that finds an offered node in a random slot takes it. Such a push and pop cancel each other out and never
+ * touch the head, so the more threads there are, the more operations complete without contention on a single
+ * reference.
+ *
+ * @param <T> generic type parameter
+ */
+public class LockFreeStack<T> implements Stack<T> {
+
+    private static final int ELIMINATION_SPINS = 64;
+
+    private static final VarHandle HEAD;
+
+    static {
+        try {
+            HEAD = MethodHandles.lookup().findVarHandle(LockFreeStack.class, "head", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> head;
+
+    private final AtomicReferenceArray<Node<T>> eliminationSlots;
+
+    private static class Node<T> {
+
+        final T element;
+
+        Node<T> next;
+
+        private Node(T element) {
+            this.element = element;
+        }
+
+        public static <T> Node<T> valueOf(T element) {
+            return new Node<>(element);
+        }
+    }
+
+    /**
+     * This constructor creates an instance of {@link LockFreeStack} with one elimination slot per available
+     * processor, but not more than 16.
+     */
+    public LockFreeStack() {
+        this(Math.min(Runtime.getRuntime().availableProcessors(), 16));
+    }
+
+    /**
+     * This constructor creates an instance of {@link LockFreeStack} with a specific number of elimination slots. More
+     * slots make collisions between pushing threads less likely, but a popping thread is less likely to find a waiting
+     * push.
+     *
+     * @param eliminationWidth number of elimination slots
+     * @throws IllegalArgumentException if the specified number is not positive
+     */
+    public LockFreeStack(int eliminationWidth) {
+        if (eliminationWidth <= 0) {
+            throw new IllegalArgumentException();
+        }
+        eliminationSlots = new AtomicReferenceArray<>(eliminationWidth);
+    }
+
+    /**
+     * This method creates a stack of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> LockFreeStack<T> of(T... elements) {
+        LockFreeStack<T> lockFreeStack = new LockFreeStack<>();
+        for (T element : elements) {
+            lockFreeStack.push(element);
+        }
+        return lockFreeStack;
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack.
+     *
+     * @param element elements to add
+     */
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        Node<T> newNode = Node.valueOf(element);
+        while (true) {
+            Node<T> currentHead = head;
+            newNode.next = currentHead;
+            if (HEAD.compareAndSet(this, currentHead, newNode) || eliminatePush(newNode)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Offers a node in a random elimination slot and waits for a popping thread to take it.
+     *
+     * @return {@code true} if the node was taken by a popping thread
+     */
+    private boolean eliminatePush(Node<T> node) {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        if (!eliminationSlots.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (eliminationSlots.get(slot) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        return !eliminationSlots.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        while (true) {
+            Node<T> currentHead = head;
+            if (currentHead == null) {
+                throw new EmptyStackException();
+            }
+            if (HEAD.compareAndSet(this, currentHead, currentHead.next)) {
+                return currentHead.element;
+            }
+            Node<T> eliminated = eliminatePop();
+            if (eliminated != null) {
+                return eliminated.element;
+            }
+        }
+    }
+
+    /**
+     * Takes a node that a pushing thread offers in a random elimination slot, if there is one.
+     */
+    private Node<T> eliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        Node<T> offered = eliminationSlots.get(slot);
+        if (offered != null && eliminationSlots.compareAndSet(slot, offered, null)) {
+            return offered;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of elements in the stack. The stack is traversed, so operation is performed in linear time
+     * O(n), and the result may be inaccurate if the stack is modified concurrently.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Node<T> node = head; node != null; node = node.next) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return head == null;
+    }
+}
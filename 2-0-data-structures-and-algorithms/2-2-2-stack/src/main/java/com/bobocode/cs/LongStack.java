@@ -0,0 +1,153 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link LongStack} is a stack of primitive {@code long} values that is based on a resizable {@code long[]} array.
+ * Values are never boxed, so {@link LongStack#push(long)} and {@link LongStack#pop()} are plain array accesses and do
+ * not allocate anything once the array is large enough.
+ */
+public class LongStack {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private long[] elements;
+
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link LongStack} with a default capacity that is 16.
+     */
+    public LongStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * This constructor creates an instance of {@link LongStack} with a specific initial capacity.
+     *
+     * @param initCapacity the initial capacity of the stack
+     * @throws IllegalArgumentException if the specified initial capacity is not positive
+     */
+    public LongStack(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        elements = new long[initCapacity];
+    }
+
+    /**
+     * This method creates a stack of provided values. The last value ends up on the top of the stack.
+     *
+     * @param values values to add
+     * @return a new stack of values that were passed as method parameters
+     */
+    public static LongStack of(long... values) {
+        LongStack longStack = new LongStack(Math.max(values.length, 1));
+        longStack.pushAll(values);
+        return longStack;
+    }
+
+    /**
+     * The method pushes a value onto the top of this stack.
+     *
+     * @param value value to add
+     */
+    public void push(long value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Pushes all provided values in their order, so the last one ends up on the top of the stack.
+     *
+     * @param values values to add
+     */
+    public void pushAll(long[] values) {
+        if (values.length > elements.length - size) {
+            grow((long) size + values.length);
+        }
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    private void grow(long minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Stack capacity limit reached");
+        }
+        long newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+        elements = Arrays.copyOf(elements, (int) Math.min(newCapacity, MAX_CAPACITY));
+    }
+
+    /**
+     * This method removes the value at the top of this stack and returns it.
+     *
+     * @return The value at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    public long pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[--size];
+    }
+
+    /**
+     * Removes {@code n} values from the top of this stack in one step and passes them to the consumer, starting from
+     * the top one.
+     *
+     * @param n        number of values to remove
+     * @param consumer accepts removed values
+     * @throws EmptyStackException - if this stack has less than {@code n} values
+     */
+    public void popN(int n, LongConsumer consumer) {
+        if (n < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (n > size) {
+            throw new EmptyStackException();
+        }
+        int newSize = size - n;
+        for (int i = size - 1; i >= newSize; i--) {
+            consumer.accept(elements[i]);
+        }
+        size = newSize;
+    }
+
+    /**
+     * Returns the value at the top of this stack without removing it.
+     *
+     * @return The value at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    public long peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[size - 1];
+    }
+
+    /**
+     * Returns the number of values in the stack
+     *
+     * @return number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
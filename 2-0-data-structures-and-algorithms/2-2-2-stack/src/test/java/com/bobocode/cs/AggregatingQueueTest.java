@@ -0,0 +1,99 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AggregatingQueueTest {
+
+    private AggregatingQueue<Integer> maxQueue = AggregatingQueue.max(Comparator.naturalOrder());
+
+    @Test
+    @Order(1)
+    void addAndPollKeepFifoOrder() {
+        maxQueue.add(1);
+        maxQueue.add(2);
+        maxQueue.add(3);
+
+        assertThat(maxQueue.size()).isEqualTo(3);
+        assertThat(maxQueue.poll()).isEqualTo(1);
+        maxQueue.add(4);
+        assertThat(maxQueue.poll()).isEqualTo(2);
+        assertThat(maxQueue.poll()).isEqualTo(3);
+        assertThat(maxQueue.poll()).isEqualTo(4);
+        assertThat(maxQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void pollWhenQueueIsEmpty() {
+        assertThat(maxQueue.poll()).isNull();
+    }
+
+    @Test
+    @Order(3)
+    void aggregateWhenQueueIsEmpty() {
+        assertThrows(NoSuchElementException.class, () -> maxQueue.aggregate());
+    }
+
+    @Test
+    @Order(4)
+    void maxIsUpdatedWhenElementsLeaveTheQueue() {
+        maxQueue.add(5);
+        maxQueue.add(1);
+        maxQueue.add(3);
+        assertThat(maxQueue.aggregate()).isEqualTo(5);
+
+        maxQueue.poll();
+        assertThat(maxQueue.aggregate()).isEqualTo(3);
+        maxQueue.add(2);
+        assertThat(maxQueue.aggregate()).isEqualTo(3);
+        maxQueue.poll();
+        maxQueue.poll();
+        assertThat(maxQueue.aggregate()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(5)
+    void operatorIsAppliedInQueueOrder() {
+        AggregatingQueue<String> concatQueue = new AggregatingQueue<>(String::concat);
+        concatQueue.add("a");
+        concatQueue.add("b");
+        concatQueue.add("c");
+        concatQueue.poll();
+        concatQueue.add("d");
+        concatQueue.add("e");
+
+        assertThat(concatQueue.aggregate()).isEqualTo("bcde");
+    }
+
+    @Test
+    @Order(6)
+    void slidingWindowMinimum() {
+        AggregatingQueue<Integer> minQueue = AggregatingQueue.min(Comparator.naturalOrder());
+        Deque<Integer> window = new ArrayDeque<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 2000; i++) {
+            int element = random.nextInt(1000);
+            minQueue.add(element);
+            window.addLast(element);
+            if (window.size() > 50) {
+                assertThat(minQueue.poll()).isEqualTo(window.pollFirst());
+            }
+
+            assertThat(minQueue.aggregate()).isEqualTo(Collections.min(window));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AggregatingStackTest {
+
+    private AggregatingStack<Integer> minStack = AggregatingStack.min(Comparator.naturalOrder());
+
+    @Test
+    @Order(1)
+    void pushAndPop() {
+        minStack.push(1);
+        minStack.push(2);
+
+        assertThat(minStack.size()).isEqualTo(2);
+        assertThat(minStack.pop()).isEqualTo(2);
+        assertThat(minStack.pop()).isEqualTo(1);
+        assertThat(minStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void popWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> minStack.pop());
+    }
+
+    @Test
+    @Order(3)
+    void pushNull() {
+        assertThatNullPointerException().isThrownBy(() -> minStack.push(null));
+    }
+
+    @Test
+    @Order(4)
+    void minIsUpdatedOnPushAndPop() {
+        minStack.push(5);
+        assertThat(minStack.aggregate()).isEqualTo(5);
+        minStack.push(3);
+        assertThat(minStack.aggregate()).isEqualTo(3);
+        minStack.push(4);
+        assertThat(minStack.aggregate()).isEqualTo(3);
+        minStack.push(1);
+        assertThat(minStack.aggregate()).isEqualTo(1);
+
+        minStack.pop();
+        assertThat(minStack.aggregate()).isEqualTo(3);
+        minStack.pop();
+        minStack.pop();
+        assertThat(minStack.aggregate()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(5)
+    void max() {
+        AggregatingStack<Integer> maxStack = AggregatingStack.max(Comparator.naturalOrder());
+        maxStack.push(2);
+        maxStack.push(7);
+        maxStack.push(3);
+
+        assertThat(maxStack.aggregate()).isEqualTo(7);
+        maxStack.pop();
+        maxStack.pop();
+        assertThat(maxStack.aggregate()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(6)
+    void sumOfManyElements() {
+        AggregatingStack<Long> sumStack = new AggregatingStack<>(Long::sum);
+        for (long i = 1; i <= 1000; i++) {
+            sumStack.push(i);
+        }
+
+        assertThat(sumStack.aggregate()).isEqualTo(500_500L);
+        for (int i = 0; i < 500; i++) {
+            sumStack.pop();
+        }
+        assertThat(sumStack.aggregate()).isEqualTo(125_250L);
+    }
+
+    @Test
+    @Order(7)
+    void operatorIsAppliedInPushOrder() {
+        AggregatingStack<String> concatStack = new AggregatingStack<>(String::concat);
+        concatStack.push("a");
+        concatStack.push("b");
+        concatStack.push("c");
+
+        assertThat(concatStack.aggregate()).isEqualTo("abc");
+    }
+
+    @Test
+    @Order(8)
+    void aggregateWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> minStack.aggregate());
+    }
+}
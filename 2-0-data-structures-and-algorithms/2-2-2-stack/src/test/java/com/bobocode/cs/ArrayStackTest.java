@@ -0,0 +1,120 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ArrayStackTest {
+
+    private ArrayStack<Integer> intStack = new ArrayStack<>(2);
+
+    @Test
+    @Order(1)
+    void pushAndPop() {
+        intStack.push(1);
+        intStack.push(2);
+        intStack.push(3);
+
+        assertThat(intStack.size()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(2);
+        assertThat(intStack.pop()).isEqualTo(1);
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void popWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> intStack.pop());
+    }
+
+    @Test
+    @Order(3)
+    void pushNull() {
+        assertThatNullPointerException().isThrownBy(() -> intStack.push(null));
+    }
+
+    @Test
+    @Order(4)
+    void peek() {
+        intStack.push(1);
+        intStack.push(2);
+
+        assertThat(intStack.peek()).isEqualTo(2);
+        assertThat(intStack.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(5)
+    void peekWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> intStack.peek());
+    }
+
+    @Test
+    @Order(6)
+    void of() {
+        ArrayStack<Integer> stack = ArrayStack.of(1, 2, 3);
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(7)
+    void pushAll() {
+        intStack.push(0);
+        intStack.pushAll(new Integer[]{1, 2, 3, 4, 5});
+
+        assertThat(intStack.size()).isEqualTo(6);
+        for (int i = 5; i >= 0; i--) {
+            assertThat(intStack.pop()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(8)
+    void pushAllWithNullElement() {
+        assertThatNullPointerException().isThrownBy(() -> intStack.pushAll(new Integer[]{1, null}));
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(9)
+    void popN() {
+        intStack.pushAll(new Integer[]{1, 2, 3, 4});
+        List<Integer> popped = new ArrayList<>();
+
+        intStack.popN(3, popped::add);
+
+        assertThat(popped).containsExactly(4, 3, 2);
+        assertThat(intStack.size()).isEqualTo(1);
+        assertThat(intStack.pop()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(10)
+    void popNWhenStackHasFewerElements() {
+        intStack.push(1);
+
+        assertThrows(EmptyStackException.class, () -> intStack.popN(2, element -> {
+        }));
+        assertThat(intStack.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(11)
+    void createStackWithNonPositiveCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ArrayStack<Integer>(0));
+    }
+}
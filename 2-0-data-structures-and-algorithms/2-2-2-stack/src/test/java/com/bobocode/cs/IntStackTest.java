@@ -0,0 +1,89 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class IntStackTest {
+
+    private IntStack stack = new IntStack(2);
+
+    @Test
+    @Order(1)
+    void pushAndPop() {
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+
+        assertThat(stack.size()).isEqualTo(100);
+        for (int i = 99; i >= 0; i--) {
+            assertThat(stack.pop()).isEqualTo(i);
+        }
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void popWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> stack.pop());
+    }
+
+    @Test
+    @Order(3)
+    void peek() {
+        stack.push(7);
+
+        assertThat(stack.peek()).isEqualTo(7);
+        assertThat(stack.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(4)
+    void of() {
+        IntStack newStack = IntStack.of(1, 2, 3);
+
+        assertThat(newStack.size()).isEqualTo(3);
+        assertThat(newStack.pop()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(5)
+    void pushAll() {
+        stack.push(0);
+        stack.pushAll(new int[]{1, 2, 3});
+
+        assertThat(stack.size()).isEqualTo(4);
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(6)
+    void popN() {
+        stack.pushAll(new int[]{1, 2, 3, 4});
+        List<Integer> popped = new ArrayList<>();
+
+        stack.popN(2, popped::add);
+
+        assertThat(popped).containsExactly(4, 3);
+        assertThat(stack.size()).isEqualTo(2);
+        assertThrows(EmptyStackException.class, () -> stack.popN(3, value -> {
+        }));
+    }
+
+    @Test
+    @Order(7)
+    void createStackWithNonPositiveCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new IntStack(0));
+    }
+}
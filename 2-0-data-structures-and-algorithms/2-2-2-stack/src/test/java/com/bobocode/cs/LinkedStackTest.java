@@ -292,6 +292,59 @@ class LinkedStackTest {
         assertThat(stackEmpty).isEqualTo(true);
     }
 
+    @Test
+    @Order(24)
+    @DisplayName("Method push() reuses a node of a popped element when node recycling is enabled")
+    void pushReusesPoppedNode() {
+        intStack = new LinkedStack<>(1);
+        intStack.push(1);
+        Object node = getHeadObject();
+
+        intStack.pop();
+        intStack.push(2);
+
+        assertThat(getHeadObject()).isSameAs(node);
+        assertThat(getNodeElementInt(node)).isEqualTo(2);
+        assertThat(intStack.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Method push() allocates a new node when node recycling is disabled")
+    void pushAllocatesNewNodeByDefault() {
+        intStack.push(1);
+        Object node = getHeadObject();
+
+        intStack.pop();
+        intStack.push(2);
+
+        assertThat(getHeadObject()).isNotSameAs(node);
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("Recycling stack keeps LIFO order")
+    void recyclingStackKeepsOrder() {
+        intStack = new LinkedStack<>(2);
+        for (int round = 0; round < 3; round++) {
+            intStack.push(1);
+            intStack.push(2);
+            intStack.push(3);
+
+            assertThat(intStack.pop()).isEqualTo(3);
+            assertThat(intStack.pop()).isEqualTo(2);
+            assertThat(intStack.pop()).isEqualTo(1);
+        }
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(27)
+    @DisplayName("Negative number of recycled nodes is not allowed")
+    void negativeMaxFreeNodesIsNotAllowed() {
+        assertThrows(IllegalArgumentException.class, () -> new LinkedStack<>(-1));
+    }
+
     private Class<?> getInnerClass() {
         return Arrays.stream(LinkedStack.class.getDeclaredClasses())
                 .filter(Class::isMemberClass)
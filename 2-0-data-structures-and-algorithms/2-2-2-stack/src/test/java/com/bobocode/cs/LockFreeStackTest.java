@@ -0,0 +1,102 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LockFreeStackTest {
+
+    private LockFreeStack<Integer> intStack = new LockFreeStack<>();
+
+    @Test
+    @Order(1)
+    void pushAndPop() {
+        intStack.push(1);
+        intStack.push(2);
+        intStack.push(3);
+
+        assertThat(intStack.size()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(2);
+        assertThat(intStack.pop()).isEqualTo(1);
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void popWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> intStack.pop());
+    }
+
+    @Test
+    @Order(3)
+    void pushNull() {
+        assertThatNullPointerException().isThrownBy(() -> intStack.push(null));
+    }
+
+    @Test
+    @Order(4)
+    void of() {
+        LockFreeStack<Integer> stack = LockFreeStack.of(1, 2, 3);
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(5)
+    void createStackWithNonPositiveEliminationWidth() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LockFreeStack<Integer>(0));
+    }
+
+    @Test
+    @Order(6)
+    void concurrentPushAndPopTransferEveryElementOnce() throws Exception {
+        LockFreeStack<Integer> stack = new LockFreeStack<>(2);
+        int threads = 8;
+        int elementsPerThread = 50_000;
+        AtomicIntegerArray popped = new AtomicIntegerArray(threads * elementsPerThread);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int threadIndex = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < elementsPerThread; i++) {
+                    stack.push(threadIndex * elementsPerThread + i);
+                    popped.incrementAndGet(stack.pop());
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(stack.isEmpty()).isTrue();
+        for (int i = 0; i < popped.length(); i++) {
+            assertThat(popped.get(i)).isEqualTo(1);
+        }
+    }
+}
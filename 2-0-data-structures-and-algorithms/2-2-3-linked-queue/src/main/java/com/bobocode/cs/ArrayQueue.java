@@ -0,0 +1,128 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+
+/**
+ * {@link ArrayQueue} implements FIFO {@link Queue}, using an array as a ring buffer. Array length is always a power of
+ * two, so head and tail indices wrap around with a bit mask instead of a division. When the array is full, it is
+ * replaced with an array that is twice as large. Unlike {@link LinkedQueue}, {@link ArrayQueue#add(Object)} and
+ * {@link ArrayQueue#poll()} do not allocate anything once the queue has reached its working capacity.
+ *
+ * @param <T> a generic parameter
+ */
+public class ArrayQueue<T> implements Queue<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private T[] elements;
+
+    private int mask;
+
+    private int head;
+
+    private int tail;
+
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link ArrayQueue} with a default capacity that is 16.
+     */
+    public ArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * This constructor creates an instance of {@link ArrayQueue} with a specific initial capacity. The capacity is
+     * rounded up to the closest power of two.
+     *
+     * @param initCapacity the initial capacity of the queue
+     * @throws IllegalArgumentException if the specified initial capacity is not positive or is greater than 2^30
+     */
+    public ArrayQueue(int initCapacity) {
+        if (initCapacity <= 0 || initCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        allocate(roundUpToPowerOfTwo(initCapacity));
+    }
+
+    private static int roundUpToPowerOfTwo(int capacity) {
+        return capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        elements = (T[]) new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue. Operation is performed in amortized constant time O(1)
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            grow();
+        }
+        elements[tail] = element;
+        tail = (tail + 1) & mask;
+        size++;
+    }
+
+    /**
+     * Doubles the array, moving elements so that the head is at index 0 again.
+     */
+    private void grow() {
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Queue capacity limit reached");
+        }
+        T[] oldElements = elements;
+        int headPartLength = oldElements.length - head;
+        allocate(oldElements.length << 1);
+        System.arraycopy(oldElements, head, elements, 0, headPartLength);
+        System.arraycopy(oldElements, 0, elements, headPartLength, head);
+        head = 0;
+        tail = size;
+    }
+
+    /**
+     * Retrieves and removes queue head. Operation is performed in constant time O(1)
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+        T element = elements[head];
+        elements[head] = null;
+        head = (head + 1) & mask;
+        size--;
+        return element;
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
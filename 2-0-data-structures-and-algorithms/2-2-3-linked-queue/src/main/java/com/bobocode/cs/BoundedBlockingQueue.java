@@ -0,0 +1,398 @@
+package com.bobocode.cs;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link BoundedBlockingQueue} is a thread-safe FIFO {@link Queue} with a fixed capacity, based on singly linked nodes.
+ * A producer that finds the queue full waits in {@link BoundedBlockingQueue#put(Object)} until a consumer frees some
+ * space, so a fast producer is slowed down instead of growing the queue without limit.
+ * <p>
+ * It is a two-lock queue: producers only take a put lock and work with the tail, consumers only take a take lock and
+ * work with the head, so they don't contend with each other. The head is always a dummy node, which lets both ends
+ * work independently even when the queue has one element. The number of elements is an atomic counter shared by both
+ * sides.
+ * <p>
+ * {@link BoundedBlockingQueue#drainTo(Collection, int)} moves a batch of elements under a single take lock
+ * acquisition, so a slow consumer can process up to N elements per wakeup.
+ *
+ * @param <T> a generic parameter
+ */
+public class BoundedBlockingQueue<T> implements Queue<T> {
+
+    private final int capacity;
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    private Node<T> head;
+
+    private Node<T> tail;
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+
+    private final Condition notEmpty = takeLock.newCondition();
+
+    private final ReentrantLock putLock = new ReentrantLock();
+
+    private final Condition notFull = putLock.newCondition();
+
+    private static class Node<T> {
+
+        T element;
+
+        Node<T> next;
+
+        private Node(T element) {
+            this.element = element;
+        }
+
+        public static <T> Node<T> valueOf(T element) {
+            return new Node<>(element);
+        }
+    }
+
+    /**
+     * This constructor creates an instance of {@link BoundedBlockingQueue} with a specific capacity.
+     *
+     * @param capacity max number of elements in the queue
+     * @throws IllegalArgumentException if the specified capacity is not positive
+     */
+    public BoundedBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.capacity = capacity;
+        head = tail = Node.valueOf(null);
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is space for it.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is space for it, without waiting.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        if (count.get() == capacity) {
+            return false;
+        }
+        int previousCount;
+        putLock.lock();
+        try {
+            if (count.get() == capacity) {
+                return false;
+            }
+            previousCount = enqueue(element);
+        } finally {
+            putLock.unlock();
+        }
+        signalNotEmptyIfWasEmpty(previousCount);
+        return true;
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting if necessary for space to become available.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(T element) throws InterruptedException {
+        Objects.requireNonNull(element);
+        int previousCount;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == capacity) {
+                notFull.await();
+            }
+            previousCount = enqueue(element);
+        } finally {
+            putLock.unlock();
+        }
+        signalNotEmptyIfWasEmpty(previousCount);
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting up to the specified time for space to become available.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait before giving up
+     * @param unit    a unit of the timeout
+     * @return {@code true} if the element was added, {@code false} if the time elapsed before space was available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(element);
+        long nanos = unit.toNanos(timeout);
+        int previousCount;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            previousCount = enqueue(element);
+        } finally {
+            putLock.unlock();
+        }
+        signalNotEmptyIfWasEmpty(previousCount);
+        return true;
+    }
+
+    /**
+     * Links a new node after the tail and wakes up the next producer if there is still space. Must be called under
+     * the put lock.
+     *
+     * @return number of elements before the new one was added
+     */
+    private int enqueue(T element) {
+        Node<T> newNode = Node.valueOf(element);
+        tail.next = newNode;
+        tail = newNode;
+        int previousCount = count.getAndIncrement();
+        if (previousCount + 1 < capacity) {
+            notFull.signal();
+        }
+        return previousCount;
+    }
+
+    private void signalNotEmptyIfWasEmpty(int previousCount) {
+        if (previousCount == 0) {
+            takeLock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                takeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head without waiting.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        if (count.get() == 0) {
+            return null;
+        }
+        T element;
+        int previousCount;
+        takeLock.lock();
+        try {
+            if (count.get() == 0) {
+                return null;
+            }
+            element = dequeue();
+            previousCount = count.getAndDecrement();
+            signalNextConsumerIfNotEmpty(previousCount - 1);
+        } finally {
+            takeLock.unlock();
+        }
+        signalNotFullIfWasFull(previousCount);
+        return element;
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting if necessary until an element becomes available.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        T element;
+        int previousCount;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+            element = dequeue();
+            previousCount = count.getAndDecrement();
+            signalNextConsumerIfNotEmpty(previousCount - 1);
+        } finally {
+            takeLock.unlock();
+        }
+        signalNotFullIfWasFull(previousCount);
+        return element;
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting up to the specified time for an element to become available.
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit    a unit of the timeout
+     * @return an element that was retrieved from the head or null if the time elapsed before an element was available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        T element;
+        int previousCount;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            element = dequeue();
+            previousCount = count.getAndDecrement();
+            signalNextConsumerIfNotEmpty(previousCount - 1);
+        } finally {
+            takeLock.unlock();
+        }
+        signalNotFullIfWasFull(previousCount);
+        return element;
+    }
+
+    /**
+     * Removes up to {@code maxElements} elements from the head without waiting and adds them to the provided
+     * collection. All elements are moved under a single acquisition of the take lock.
+     *
+     * @param collection  the collection to transfer elements into
+     * @param maxElements max number of elements to transfer
+     * @return number of transferred elements
+     */
+    public int drainTo(Collection<? super T> collection, int maxElements) {
+        Objects.requireNonNull(collection);
+        if (maxElements <= 0) {
+            return 0;
+        }
+        int drained = 0;
+        int previousCount = 0;
+        takeLock.lock();
+        try {
+            int available = Math.min(maxElements, count.get());
+            try {
+                while (drained < available) {
+                    collection.add(head.next.element);
+                    dequeue();
+                    drained++;
+                }
+            } finally {
+                if (drained > 0) {
+                    previousCount = count.getAndAdd(-drained);
+                    signalNextConsumerIfNotEmpty(previousCount - drained);
+                }
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (drained > 0) {
+            signalNotFullIfWasFull(previousCount);
+        }
+        return drained;
+    }
+
+    /**
+     * Waits up to the specified time until at least one element is available, then removes up to
+     * {@code maxElements} elements from the head and adds them to the provided collection, as
+     * {@link BoundedBlockingQueue#drainTo(Collection, int)} does.
+     *
+     * @param collection  the collection to transfer elements into
+     * @param maxElements max number of elements to transfer
+     * @param timeout     how long to wait for the first element before giving up
+     * @param unit        a unit of the timeout
+     * @return number of transferred elements, 0 if the time elapsed before an element was available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public int drainTo(Collection<? super T> collection, int maxElements, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        Objects.requireNonNull(collection);
+        if (maxElements <= 0) {
+            return 0;
+        }
+        long nanos = unit.toNanos(timeout);
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0) {
+                    return 0;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return drainTo(collection, maxElements);
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    /**
+     * Unlinks the first element. The node that held it becomes a new dummy head. Must be called under the take lock.
+     */
+    private T dequeue() {
+        Node<T> first = head.next;
+        head.next = head;
+        head = first;
+        T element = first.element;
+        first.element = null;
+        return element;
+    }
+
+    private void signalNextConsumerIfNotEmpty(int currentCount) {
+        if (currentCount > 0) {
+            notEmpty.signal();
+        }
+    }
+
+    private void signalNotFullIfWasFull(int previousCount) {
+        if (previousCount == capacity) {
+            putLock.lock();
+            try {
+                notFull.signal();
+            } finally {
+                putLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    /**
+     * Returns the number of elements that can be added without waiting.
+     *
+     * @return free space of the queue
+     */
+    public int remainingCapacity() {
+        return capacity - count.get();
+    }
+}
@@ -24,6 +24,12 @@ public class LinkedQueue<T> implements Queue<T> {
 
     private int size;
 
+    private final int maxFreeNodes;
+
+    private Node<T> freeNodes;
+
+    private int freeNodesCount;
+
     private static class Node<T> {
 
         T element;
@@ -39,6 +45,29 @@ public class LinkedQueue<T> implements Queue<T> {
         }
     }
 
+    /**
+     * This constructor creates an instance of {@link LinkedQueue} that allocates a new node for every added element.
+     */
+    public LinkedQueue() {
+        this(0);
+    }
+
+    /**
+     * This constructor creates an instance of {@link LinkedQueue} that recycles nodes. Nodes of polled elements are
+     * kept in a free list instead of being left to the garbage collector, and are reused by the following
+     * {@link LinkedQueue#add(Object)} calls. Once the free list is filled, a queue in a steady state
+     * does not allocate.
+     *
+     * @param maxFreeNodes max number of nodes that are kept for reuse
+     * @throws IllegalArgumentException if the specified number is negative
+     */
+    public LinkedQueue(int maxFreeNodes) {
+        if (maxFreeNodes < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.maxFreeNodes = maxFreeNodes;
+    }
+
     /**
      * Adds an element to the end of the queue.
      *
@@ -46,7 +75,7 @@ public class LinkedQueue<T> implements Queue<T> {
      */
     public void add(T element) {
         Objects.requireNonNull(element);
-        Node<T> newNode = Node.valueOf(element);
+        Node<T> newNode = newNode(element);
         if (head == null) {
             head = newNode;
         }
@@ -57,6 +86,29 @@ public class LinkedQueue<T> implements Queue<T> {
         size++;
     }
 
+    private Node<T> newNode(T element) {
+        Node<T> node = freeNodes;
+        if (node == null) {
+            return Node.valueOf(element);
+        }
+        freeNodes = node.next;
+        freeNodesCount--;
+        node.next = null;
+        node.element = element;
+        return node;
+    }
+
+    private void recycle(Node<T> node) {
+        node.element = null;
+        if (freeNodesCount < maxFreeNodes) {
+            node.next = freeNodes;
+            freeNodes = node;
+            freeNodesCount++;
+        } else {
+            node.next = null;
+        }
+    }
+
     /**
      * Retrieves and removes queue head.
      *
@@ -65,6 +117,7 @@ public class LinkedQueue<T> implements Queue<T> {
     public T poll() {
         T returnElement;
         if (head != null) {
+            Node<T> polledNode = head;
             returnElement = head.element;
 
             if (head.next != null) {
@@ -74,6 +127,7 @@ public class LinkedQueue<T> implements Queue<T> {
                 tail = null;
             }
             size--;
+            recycle(polledNode);
             return returnElement;
         }
         return null;
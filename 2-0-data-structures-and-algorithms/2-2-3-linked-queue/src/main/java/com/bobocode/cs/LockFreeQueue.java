@@ -0,0 +1,147 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * {@link LockFreeQueue} is a thread-safe FIFO {@link Queue} for many producers and many consumers, based on singly
+ * linked nodes and compare-and-set (Michael-Scott queue). No thread ever holds a lock, so a stalled thread can not
+ * block others.
+ * <p>
+ * The head is always a dummy node: the first element is stored in the node next to it. A producer links a new node
+ * with CAS on the {@code next} field of the last node and then tries to swing the tail to it. A consumer moves the head
+ * with CAS. If any thread finds the tail lagging behind (its {@code next} is not null), it helps to move the tail
+ * forward before retrying its own operation.
+ * <p>
+ * Atomic updates are performed through {@link VarHandle}s, so the queue does not allocate anything except nodes.
+ *
+ * @param <T> a generic parameter
+ */
+public class LockFreeQueue<T> implements Queue<T> {
+
+    private static final VarHandle HEAD;
+
+    private static final VarHandle TAIL;
+
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(LockFreeQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(LockFreeQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> head;
+
+    private volatile Node<T> tail;
+
+    private static class Node<T> {
+
+        T element;
+
+        volatile Node<T> next;
+
+        private Node(T element) {
+            this.element = element;
+        }
+
+        public static <T> Node<T> valueOf(T element) {
+            return new Node<>(element);
+        }
+    }
+
+    /**
+     * This constructor creates an empty {@link LockFreeQueue} that consists of a single dummy node.
+     */
+    public LockFreeQueue() {
+        head = tail = Node.valueOf(null);
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        Node<T> newNode = Node.valueOf(element);
+        while (true) {
+            Node<T> last = tail;
+            Node<T> next = last.next;
+            if (last != tail) {
+                continue;
+            }
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    TAIL.compareAndSet(this, last, newNode);
+                    return;
+                }
+            } else {
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        while (true) {
+            Node<T> first = head;
+            Node<T> last = tail;
+            Node<T> next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (first == last) {
+                if (next == null) {
+                    return null;
+                }
+                TAIL.compareAndSet(this, last, next);
+            } else {
+                T element = next.element;
+                if (HEAD.compareAndSet(this, first, next)) {
+                    next.element = null;
+                    return element;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a size of the queue. The queue is traversed, so operation is performed in linear time O(n), and the
+     * result may be inaccurate if the queue is modified concurrently.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Node<T> node = head.next; node != null; node = node.next) {
+            if (++size == Integer.MAX_VALUE) {
+                break;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+}
@@ -0,0 +1,175 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link LongPriorityQueue} is a priority queue where each element has a {@code long} priority, and an element with the
+ * smallest priority is retrieved first. Like {@link PriorityQueue}, it is based on a d-ary heap, but priorities are
+ * stored in a separate primitive array. So the heap is ordered by plain {@code long} comparisons, without calling a
+ * {@link java.util.Comparator} and without reading element objects at all.
+ * <p>
+ * Elements with equal priorities are retrieved in no particular order.
+ *
+ * @param <T> a type of elements
+ */
+public class LongPriorityQueue<T> {
+
+    private static final int DEFAULT_ARITY = 4;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final int arity;
+
+    private long[] priorities;
+
+    private Object[] elements;
+
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link LongPriorityQueue} based on a 4-ary heap.
+     */
+    public LongPriorityQueue() {
+        this(DEFAULT_ARITY);
+    }
+
+    /**
+     * This constructor creates an instance of {@link LongPriorityQueue} based on a heap with a specific arity.
+     *
+     * @param arity number of children of each heap node
+     * @throws IllegalArgumentException if the specified arity is less than 2
+     */
+    public LongPriorityQueue(int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException();
+        }
+        this.arity = arity;
+        this.priorities = new long[DEFAULT_CAPACITY];
+        this.elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Adds an element with a specific priority. Operation is performed in O(log n) time.
+     *
+     * @param priority a priority of the element, the smallest one is retrieved first
+     * @param element  the element to add
+     */
+    public void add(long priority, T element) {
+        Objects.requireNonNull(element);
+        if (size == priorities.length) {
+            grow();
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            if (priority >= priorities[parent]) {
+                break;
+            }
+            priorities[index] = priorities[parent];
+            elements[index] = elements[parent];
+            index = parent;
+        }
+        priorities[index] = priority;
+        elements[index] = element;
+    }
+
+    private void grow() {
+        if (priorities.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Queue capacity limit reached");
+        }
+        int newCapacity = priorities.length > MAX_CAPACITY >> 1 ? MAX_CAPACITY : priorities.length << 1;
+        priorities = Arrays.copyOf(priorities, newCapacity);
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    /**
+     * Retrieves and removes the element with the smallest priority. Operation is performed in O(log n) time.
+     *
+     * @return the element with the smallest priority or null if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+        T first = (T) elements[0];
+        size--;
+        long lastPriority = priorities[size];
+        Object lastElement = elements[size];
+        elements[size] = null;
+        if (size > 0) {
+            siftDown(lastPriority, lastElement);
+        }
+        return first;
+    }
+
+    private void siftDown(long priority, Object element) {
+        int index = 0;
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size || firstChild < 0) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + arity, size);
+            int smallest = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (priorities[child] < priorities[smallest]) {
+                    smallest = child;
+                }
+            }
+            if (priorities[smallest] >= priority) {
+                break;
+            }
+            priorities[index] = priorities[smallest];
+            elements[index] = elements[smallest];
+            index = smallest;
+        }
+        priorities[index] = priority;
+        elements[index] = element;
+    }
+
+    /**
+     * Retrieves the element with the smallest priority without removing it.
+     *
+     * @return the element with the smallest priority or null if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return (T) elements[0];
+    }
+
+    /**
+     * Returns the smallest priority in the queue.
+     *
+     * @return the priority of the element that is retrieved next
+     * @throws NoSuchElementException if queue is empty
+     */
+    public long peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return priorities[0];
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,215 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * {@link PriorityQueue} is a {@link Queue} that returns elements in the order defined by a {@link Comparator}: the
+ * smallest element is always retrieved first. It is based on an implicit d-ary heap stored in an array. Children of the
+ * element at index {@code i} are stored at indices {@code d * i + 1 ... d * i + d}.
+ * <p>
+ * A wider heap is shallower, so {@link PriorityQueue#add(Object)} makes fewer steps, while
+ * {@link PriorityQueue#poll()} compares more children per level. Children of one node are adjacent in the array, so
+ * scanning them usually stays within one cache line. The default arity is 4.
+ *
+ * @param <T> a generic parameter
+ */
+public class PriorityQueue<T> implements Queue<T> {
+
+    private static final int DEFAULT_ARITY = 4;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final int arity;
+
+    private final Comparator<? super T> comparator;
+
+    private T[] elements;
+
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link PriorityQueue} based on a 4-ary heap.
+     *
+     * @param comparator defines an order of elements
+     */
+    public PriorityQueue(Comparator<? super T> comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * This constructor creates an instance of {@link PriorityQueue} based on a heap with a specific arity.
+     *
+     * @param arity      number of children of each heap node
+     * @param comparator defines an order of elements
+     * @throws IllegalArgumentException if the specified arity is less than 2
+     */
+    @SuppressWarnings("unchecked")
+    public PriorityQueue(int arity, Comparator<? super T> comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException();
+        }
+        this.arity = arity;
+        this.comparator = Objects.requireNonNull(comparator);
+        this.elements = (T[]) new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a 4-ary {@link PriorityQueue} of provided elements, building the heap in linear time O(n).
+     *
+     * @param comparator defines an order of elements
+     * @param elements   elements to add
+     * @param <T>        generic type
+     * @return a new queue that holds all provided elements
+     */
+    public static <T> PriorityQueue<T> heapify(Comparator<? super T> comparator, Collection<? extends T> elements) {
+        return heapify(DEFAULT_ARITY, comparator, elements);
+    }
+
+    /**
+     * Creates a {@link PriorityQueue} of provided elements with a specific arity, building the heap in linear time
+     * O(n). Elements are copied as they are, and then each inner node is sifted down starting from the last one, which
+     * is cheaper than adding elements one by one in O(n log n).
+     *
+     * @param arity      number of children of each heap node
+     * @param comparator defines an order of elements
+     * @param elements   elements to add
+     * @param <T>        generic type
+     * @return a new queue that holds all provided elements
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PriorityQueue<T> heapify(int arity, Comparator<? super T> comparator,
+                                               Collection<? extends T> elements) {
+        PriorityQueue<T> queue = new PriorityQueue<>(arity, comparator);
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            Objects.requireNonNull(element);
+        }
+        queue.elements = (T[]) Arrays.copyOf(array, Math.max(array.length, DEFAULT_CAPACITY), Object[].class);
+        queue.size = array.length;
+        for (int i = queue.parentOf(queue.size - 1); i >= 0; i--) {
+            queue.siftDown(i, queue.elements[i]);
+        }
+        return queue;
+    }
+
+    /**
+     * Adds an element to the queue. Operation is performed in O(log n) time.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            grow();
+        }
+        siftUp(size++, element);
+    }
+
+    private void grow() {
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Queue capacity limit reached");
+        }
+        int newCapacity = elements.length > MAX_CAPACITY >> 1 ? MAX_CAPACITY : elements.length << 1;
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    /**
+     * Retrieves and removes the smallest element. Operation is performed in O(log n) time.
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+        T first = elements[0];
+        T last = elements[--size];
+        elements[size] = null;
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return first;
+    }
+
+    /**
+     * Retrieves the smallest element without removing it. Operation is performed in constant time O(1)
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    public T peek() {
+        return elements[0];
+    }
+
+    private int parentOf(int index) {
+        return (index - 1) / arity;
+    }
+
+    /**
+     * Moves parents down while they are greater than the element, and then puts the element into the freed slot. It
+     * writes each slot once instead of swapping.
+     */
+    private void siftUp(int index, T element) {
+        while (index > 0) {
+            int parent = parentOf(index);
+            T parentElement = elements[parent];
+            if (comparator.compare(element, parentElement) >= 0) {
+                break;
+            }
+            elements[index] = parentElement;
+            index = parent;
+        }
+        elements[index] = element;
+    }
+
+    /**
+     * Moves the smallest child up while it is less than the element, and then puts the element into the freed slot.
+     */
+    private void siftDown(int index, T element) {
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size || firstChild < 0) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + arity, size);
+            int smallest = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (comparator.compare(elements[child], elements[smallest]) < 0) {
+                    smallest = child;
+                }
+            }
+            if (comparator.compare(elements[smallest], element) >= 0) {
+                break;
+            }
+            elements[index] = elements[smallest];
+            index = smallest;
+        }
+        elements[index] = element;
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,208 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link SpscArrayQueue} is a bounded FIFO {@link Queue} for exactly one producer thread and exactly one consumer
+ * thread. It is based on a preallocated ring buffer, which length is a power of two. Both
+ * {@link SpscArrayQueue#offer(Object)} and {@link SpscArrayQueue#poll()} are wait-free: they never lock, never retry
+ * and never use CAS.
+ * <p>
+ * The producer owns a tail sequence and the consumer owns a head sequence. Each side writes only its own sequence,
+ * publishing it with a release store, and reads the other one with an acquire load. A side also keeps a cached copy of
+ * the other sequence and re-reads it only when the cached value says the queue is full (or empty), so in a steady state
+ * the threads rarely touch each other's cache lines. Both sequences are padded to stay on separate cache lines.
+ * <p>
+ * Using the queue from more than one producer or more than one consumer at a time breaks it.
+ *
+ * @param <T> a generic parameter
+ */
+public class SpscArrayQueue<T> implements Queue<T> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final T[] elements;
+
+    private final int mask;
+
+    private final Sequence head = new Sequence();
+
+    private final Sequence tail = new Sequence();
+
+    /**
+     * A sequence counter surrounded by unused fields, so that counters of producer and consumer never share a cache
+     * line. {@code cached} is a copy of the opposite sequence that is only accessed by the owner thread.
+     */
+    @SuppressWarnings("unused")
+    private static class Sequence {
+
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Sequence.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        long p01, p02, p03, p04, p05, p06, p07;
+
+        long value;
+
+        long cached;
+
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        long getAcquire() {
+            return (long) VALUE.getAcquire(this);
+        }
+
+        void setRelease(long newValue) {
+            VALUE.setRelease(this, newValue);
+        }
+    }
+
+    /**
+     * This constructor creates an instance of {@link SpscArrayQueue} with a specific capacity. The capacity is rounded
+     * up to the closest power of two.
+     *
+     * @param capacity max number of elements in the queue
+     * @throws IllegalArgumentException if the specified capacity is not positive or is greater than 2^30
+     */
+    @SuppressWarnings("unchecked")
+    public SpscArrayQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        elements = (T[]) new Object[length];
+        mask = length - 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue. Must be called only from the producer thread.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is space for it. Must be called only from the producer thread.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        long currentTail = tail.value;
+        long wrapPoint = currentTail - elements.length;
+        if (wrapPoint >= tail.cached) {
+            tail.cached = head.getAcquire();
+            if (wrapPoint >= tail.cached) {
+                return false;
+            }
+        }
+        elements[(int) currentTail & mask] = element;
+        tail.setRelease(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Retrieves and removes queue head. Must be called only from the consumer thread.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        long currentHead = head.value;
+        if (currentHead >= head.cached) {
+            head.cached = tail.getAcquire();
+            if (currentHead >= head.cached) {
+                return null;
+            }
+        }
+        int index = (int) currentHead & mask;
+        T element = elements[index];
+        elements[index] = null;
+        head.setRelease(currentHead + 1);
+        return element;
+    }
+
+    /**
+     * Retrieves and removes up to {@code maxElements} elements from the head, passing them to the consumer in FIFO
+     * order. The head sequence is published once for the whole batch, so the producer sees the freed space after the
+     * batch is processed. If the consumer throws an exception, the head is moved only past the elements that were
+     * already passed to it, and the rest stay in the queue. Must be called only from the consumer thread.
+     *
+     * @param maxElements max number of elements to retrieve
+     * @param consumer    accepts retrieved elements
+     * @return number of retrieved elements
+     */
+    public int poll(int maxElements, Consumer<? super T> consumer) {
+        Objects.requireNonNull(consumer);
+        long currentHead = head.value;
+        long available = head.cached - currentHead;
+        if (available < maxElements) {
+            head.cached = tail.getAcquire();
+            available = head.cached - currentHead;
+        }
+        int count = (int) Math.min(available, Math.max(maxElements, 0));
+        int polled = 0;
+        try {
+            while (polled < count) {
+                int index = (int) (currentHead + polled) & mask;
+                T element = elements[index];
+                elements[index] = null;
+                polled++;
+                consumer.accept(element);
+            }
+        } finally {
+            if (polled > 0) {
+                head.setRelease(currentHead + polled);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a size of the queue. The value is exact only when neither producer nor consumer is working with the
+     * queue at the same time.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        long currentHead = head.getAcquire();
+        long size = tail.getAcquire() - currentHead;
+        return (int) Math.max(0, Math.min(size, elements.length));
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return head.getAcquire() >= tail.getAcquire();
+    }
+
+    /**
+     * Returns the max number of elements in the queue.
+     *
+     * @return capacity of the queue
+     */
+    public int capacity() {
+        return elements.length;
+    }
+}
@@ -0,0 +1,294 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TimingWheel} is a delay queue for a large number of timeouts that are mostly cancelled before they expire. It
+ * is a hierarchical timing wheel: time is measured in ticks, and each level of the wheel is an array of buckets. A
+ * bucket on level 0 holds timeouts that expire at a particular tick, a bucket on level {@code L} holds timeouts that
+ * expire within a particular range of {@code wheelSize^L} ticks. The level of a timeout is defined by the highest bit
+ * in which its deadline differs from the current tick, so {@link TimingWheel#schedule(long, TimeUnit, Object)} is
+ * performed in constant time O(1) regardless of the delay.
+ * <p>
+ * Each bucket is a doubly linked list of {@link Timeout} nodes, so {@link Timeout#cancel()} unlinks a node in constant
+ * time O(1) and never scans anything. When the wheel moves to a tick where the range of an upper-level bucket starts,
+ * timeouts of that bucket are moved to lower levels (cascaded). Timeouts of the level 0 bucket of the current tick
+ * expire, and their tasks are moved to a FIFO ready queue, from where they are retrieved with
+ * {@link TimingWheel#poll()}.
+ * <p>
+ * The wheel does not read a clock and does not start threads: the owner calls {@link TimingWheel#tick()} once per
+ * tick duration. It is not thread-safe.
+ *
+ * @param <T> a type of scheduled tasks
+ */
+public class TimingWheel<T> {
+
+    private static final int DEFAULT_WHEEL_SIZE = 256;
+
+    private final long tickNanos;
+
+    private final int bits;
+
+    private final int mask;
+
+    private final Timeout<T>[][] levels;
+
+    private final Queue<T> readyTasks = new LinkedQueue<>();
+
+    private long currentTick;
+
+    private int pending;
+
+    /**
+     * A handle of a scheduled task. It is also a node of a bucket list.
+     *
+     * @param <T> a type of the task
+     */
+    public static final class Timeout<T> {
+
+        private final TimingWheel<T> wheel;
+
+        private final T task;
+
+        private final long deadline;
+
+        private Timeout<T> prev;
+
+        private Timeout<T> next;
+
+        private boolean done;
+
+        private boolean cancelled;
+
+        private Timeout(TimingWheel<T> wheel, T task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout, so its task never gets to the ready queue. Operation is performed in constant time O(1)
+         *
+         * @return {@code true} if the timeout was cancelled by this call, {@code false} if it has already expired or
+         * was cancelled before
+         */
+        public boolean cancel() {
+            if (done) {
+                return false;
+            }
+            done = true;
+            cancelled = true;
+            wheel.unlink(this);
+            return true;
+        }
+
+        /**
+         * Checks if the timeout was cancelled.
+         *
+         * @return {@code true} if the timeout was cancelled
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Checks if the timeout has expired, i.e. its task was moved to the ready queue.
+         *
+         * @return {@code true} if the timeout has expired
+         */
+        public boolean isExpired() {
+            return done && !cancelled;
+        }
+
+        /**
+         * Returns the scheduled task.
+         *
+         * @return the task
+         */
+        public T task() {
+            return task;
+        }
+
+        /**
+         * Returns the tick at which the timeout expires.
+         *
+         * @return deadline measured in ticks
+         */
+        public long deadline() {
+            return deadline;
+        }
+    }
+
+    /**
+     * This constructor creates an instance of {@link TimingWheel} with a specific tick resolution and 256 buckets per
+     * level.
+     *
+     * @param tickDuration duration of one tick
+     * @param unit         a unit of the tick duration
+     * @throws IllegalArgumentException if the specified tick duration is not positive
+     */
+    public TimingWheel(long tickDuration, TimeUnit unit) {
+        this(tickDuration, unit, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * This constructor creates an instance of {@link TimingWheel} with a specific tick resolution and a specific
+     * number of buckets per level. A bigger wheel needs fewer levels and cascades less often, but every level takes
+     * more memory.
+     *
+     * @param tickDuration duration of one tick
+     * @param unit         a unit of the tick duration
+     * @param wheelSize    number of buckets per level, it must be a power of two
+     * @throws IllegalArgumentException if the specified tick duration is not positive or wheel size is not a power of
+     *                                  two greater than 1
+     */
+    public TimingWheel(long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException();
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        @SuppressWarnings("unchecked")
+        Timeout<T>[][] emptyLevels = (Timeout<T>[][]) new Timeout<?>[(Long.SIZE + bits - 1) / bits][];
+        this.levels = emptyLevels;
+    }
+
+    /**
+     * Schedules a task to be moved to the ready queue after a specific delay. The delay is rounded up to whole ticks.
+     * Operation is performed in constant time O(1)
+     *
+     * @param delay a delay after which the task becomes ready
+     * @param unit  a unit of the delay
+     * @param task  the task to schedule
+     * @return a handle that can be used to cancel the task
+     */
+    public Timeout<T> schedule(long delay, TimeUnit unit, T task) {
+        Objects.requireNonNull(task);
+        long delayNanos = Math.max(0, unit.toNanos(delay));
+        long delayTicks = delayNanos / tickNanos + (delayNanos % tickNanos == 0 ? 0 : 1);
+        long deadline = delayTicks > Long.MAX_VALUE - currentTick ? Long.MAX_VALUE : currentTick + delayTicks;
+        Timeout<T> timeout = new Timeout<>(this, task, deadline);
+        pending++;
+        place(timeout);
+        return timeout;
+    }
+
+    /**
+     * Puts a timeout into the bucket that is processed at its deadline, or to the ready queue if the deadline has
+     * come.
+     */
+    private void place(Timeout<T> timeout) {
+        if (timeout.deadline <= currentTick) {
+            expire(timeout);
+            return;
+        }
+        long diff = timeout.deadline ^ currentTick;
+        int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(diff)) / bits;
+        int index = (int) (timeout.deadline >>> (level * bits)) & mask;
+        linkLast(bucket(level, index), timeout);
+    }
+
+    private Timeout<T> bucket(int level, int index) {
+        Timeout<T>[] buckets = levels[level];
+        if (buckets == null) {
+            @SuppressWarnings("unchecked")
+            Timeout<T>[] newBuckets = (Timeout<T>[]) new Timeout<?>[mask + 1];
+            buckets = newBuckets;
+            for (int i = 0; i < buckets.length; i++) {
+                Timeout<T> sentinel = new Timeout<>(this, null, 0);
+                sentinel.prev = sentinel.next = sentinel;
+                buckets[i] = sentinel;
+            }
+            levels[level] = buckets;
+        }
+        return buckets[index];
+    }
+
+    private void linkLast(Timeout<T> sentinel, Timeout<T> timeout) {
+        timeout.prev = sentinel.prev;
+        timeout.next = sentinel;
+        sentinel.prev.next = timeout;
+        sentinel.prev = timeout;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        timeout.prev.next = timeout.next;
+        timeout.next.prev = timeout.prev;
+        timeout.prev = timeout.next = null;
+        pending--;
+    }
+
+    private void expire(Timeout<T> timeout) {
+        timeout.done = true;
+        timeout.prev = timeout.next = null;
+        pending--;
+        readyTasks.add(timeout.task);
+    }
+
+    /**
+     * Moves the wheel one tick forward. Buckets of upper levels that start at the new tick are cascaded to lower
+     * levels, and then all timeouts of the current level 0 bucket expire.
+     */
+    public void tick() {
+        currentTick++;
+        int topLevel = Math.min(levels.length - 1, Long.numberOfTrailingZeros(currentTick) / bits);
+        for (int level = topLevel; level >= 0; level--) {
+            if (levels[level] != null) {
+                processBucket(levels[level][(int) (currentTick >>> (level * bits)) & mask]);
+            }
+        }
+    }
+
+    /**
+     * Moves the wheel a specific number of ticks forward, as if {@link TimingWheel#tick()} was called that many times.
+     *
+     * @param ticks number of ticks
+     */
+    public void advance(long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Detaches all timeouts from the bucket and places each of them again relative to the current tick.
+     */
+    private void processBucket(Timeout<T> sentinel) {
+        Timeout<T> timeout = sentinel.next;
+        sentinel.prev = sentinel.next = sentinel;
+        while (timeout != sentinel) {
+            Timeout<T> next = timeout.next;
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    /**
+     * Retrieves and removes the next expired task in the order of expiration.
+     *
+     * @return an expired task or null if there are no expired tasks
+     */
+    public T poll() {
+        return readyTasks.poll();
+    }
+
+    /**
+     * Returns the number of timeouts that are neither expired nor cancelled.
+     *
+     * @return number of pending timeouts
+     */
+    public int size() {
+        return pending;
+    }
+
+    /**
+     * Returns the number of ticks since the wheel was created.
+     *
+     * @return the current tick
+     */
+    public long currentTick() {
+        return currentTick;
+    }
+}
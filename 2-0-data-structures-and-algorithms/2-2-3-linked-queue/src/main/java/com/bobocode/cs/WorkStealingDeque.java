@@ -0,0 +1,165 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * {@link WorkStealingDeque} is a Chase-Lev work-stealing deque. It has a single owner thread that works with the
+ * bottom end like with a stack: {@link WorkStealingDeque#push(Object)} and {@link WorkStealingDeque#pop()}. Any other
+ * thread (a thief) may take elements from the top end with {@link WorkStealingDeque#steal()}.
+ * <p>
+ * The owner never uses CAS, except when it pops the very last element and races with thieves for it. Thieves compete
+ * with each other through CAS on the top index. So while each thread has its own work, the owner's operations cost
+ * about as much as operations of an array stack.
+ * <p>
+ * Elements are stored in a circular array, which length is a power of two. When the array is full, the owner replaces
+ * it with a twice larger copy. Thieves that still read the old array get the same elements, because the old array is
+ * never modified after that.
+ *
+ * @param <T> a generic parameter
+ */
+public class WorkStealingDeque<T> {
+
+    private static final int DEFAULT_CAPACITY = 32;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private static final VarHandle TOP;
+
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(WorkStealingDeque.class, "top", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile long top;
+
+    private volatile long bottom;
+
+    private volatile T[] elements;
+
+    /**
+     * This constructor creates an instance of {@link WorkStealingDeque} with a default capacity that is 32.
+     */
+    public WorkStealingDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * This constructor creates an instance of {@link WorkStealingDeque} with a specific initial capacity. The capacity
+     * is rounded up to the closest power of two.
+     *
+     * @param initCapacity the initial capacity of the deque
+     * @throws IllegalArgumentException if the specified initial capacity is not positive or is greater than 2^30
+     */
+    @SuppressWarnings("unchecked")
+    public WorkStealingDeque(int initCapacity) {
+        if (initCapacity <= 0 || initCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = initCapacity == 1 ? 2 : Integer.highestOneBit(initCapacity - 1) << 1;
+        elements = (T[]) new Object[capacity];
+    }
+
+    /**
+     * Adds an element to the bottom of the deque. Must be called only by the owner thread.
+     *
+     * @param element the element to add
+     */
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        long b = bottom;
+        long t = top;
+        T[] array = elements;
+        if (b - t >= array.length - 1) {
+            array = grow(array, t, b);
+        }
+        array[(int) b & (array.length - 1)] = element;
+        bottom = b + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] grow(T[] array, long t, long b) {
+        if (array.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Deque capacity limit reached");
+        }
+        T[] newArray = (T[]) new Object[array.length << 1];
+        for (long i = t; i < b; i++) {
+            newArray[(int) i & (newArray.length - 1)] = array[(int) i & (array.length - 1)];
+        }
+        elements = newArray;
+        return newArray;
+    }
+
+    /**
+     * Retrieves and removes an element from the bottom of the deque, i.e. the element that was pushed last. Must be
+     * called only by the owner thread.
+     *
+     * @return an element from the bottom or null if the deque is empty
+     */
+    public T pop() {
+        long b = bottom - 1;
+        T[] array = elements;
+        bottom = b;
+        long t = top;
+        if (t > b) {
+            bottom = b + 1;
+            return null;
+        }
+        int index = (int) b & (array.length - 1);
+        T element = array[index];
+        if (t == b) {
+            if (TOP.compareAndSet(this, t, t + 1)) {
+                array[index] = null;
+            } else {
+                element = null;
+            }
+            bottom = b + 1;
+            return element;
+        }
+        array[index] = null;
+        return element;
+    }
+
+    /**
+     * Retrieves and removes an element from the top of the deque, i.e. the oldest element. May be called by any
+     * thread. A thief does not clear the slot it took the element from, because the owner may reuse it at any moment.
+     *
+     * @return an element from the top or null if the deque is empty or another thread took the element first
+     */
+    public T steal() {
+        long t = top;
+        long b = bottom;
+        if (t >= b) {
+            return null;
+        }
+        T[] array = elements;
+        T element = array[(int) t & (array.length - 1)];
+        if (!TOP.compareAndSet(this, t, t + 1)) {
+            return null;
+        }
+        return element;
+    }
+
+    /**
+     * Returns the number of elements in the deque. The value is exact only when no other thread modifies the deque.
+     *
+     * @return number of elements
+     */
+    public int size() {
+        long size = bottom - top;
+        return size < 0 ? 0 : (int) size;
+    }
+
+    /**
+     * Checks if the deque is empty.
+     *
+     * @return {@code true} if the deque is empty, returns {@code false} if it's not
+     */
+    public boolean isEmpty() {
+        return bottom <= top;
+    }
+}
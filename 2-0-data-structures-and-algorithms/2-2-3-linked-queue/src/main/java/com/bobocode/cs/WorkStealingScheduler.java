@@ -0,0 +1,222 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link WorkStealingScheduler} is an {@link Executor} with a fixed number of worker threads, where each worker has its
+ * own {@link WorkStealingDeque}. A task that is submitted from a worker thread is pushed to the bottom of that
+ * worker's deque, so recursive jobs that split themselves into subtasks keep working with their own deques without any
+ * contention. A worker that runs out of tasks steals the oldest task from a random other worker. Old tasks are usually
+ * the biggest parts of a recursive job, so a single steal gives a thief a lot of work.
+ * <p>
+ * Tasks that are submitted from other threads go to a shared {@link LockFreeQueue}. Idle workers park for a short time
+ * and are woken up when a new task is submitted.
+ */
+public class WorkStealingScheduler implements Executor {
+
+    private static final int STEAL_ATTEMPTS = 4;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Worker[] workers;
+
+    private final Queue<Runnable> submissions = new LockFreeQueue<>();
+
+    private final AtomicLong pendingTasks = new AtomicLong();
+
+    private final Object quiescenceMonitor = new Object();
+
+    private volatile boolean shutdown;
+
+    private final class Worker extends Thread {
+
+        private final WorkStealingDeque<Runnable> deque = new WorkStealingDeque<>();
+
+        private final int index;
+
+        private volatile boolean parked;
+
+        private Worker(int index) {
+            super("work-stealing-worker-" + index);
+            this.index = index;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Runnable task = findTask();
+                if (task != null) {
+                    runTask(task);
+                } else if (shutdown && pendingTasks.get() == 0) {
+                    return;
+                } else {
+                    parked = true;
+                    if (submissions.isEmpty()) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    parked = false;
+                }
+            }
+        }
+
+        private boolean belongsTo(WorkStealingScheduler scheduler) {
+            return scheduler == WorkStealingScheduler.this;
+        }
+
+        private Runnable findTask() {
+            Runnable task = deque.pop();
+            if (task == null) {
+                task = submissions.poll();
+            }
+            if (task == null && workers.length > 1) {
+                task = stealTask();
+            }
+            return task;
+        }
+
+        private Runnable stealTask() {
+            for (int attempt = 0; attempt < STEAL_ATTEMPTS * workers.length; attempt++) {
+                int victimIndex = ThreadLocalRandom.current().nextInt(workers.length - 1);
+                Worker victim = workers[victimIndex < index ? victimIndex : victimIndex + 1];
+                Runnable task = victim.deque.steal();
+                if (task != null) {
+                    return task;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * This constructor creates an instance of {@link WorkStealingScheduler} with one worker per available processor.
+     */
+    public WorkStealingScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * This constructor creates an instance of {@link WorkStealingScheduler} with a specific number of workers and
+     * starts them.
+     *
+     * @param parallelism number of worker threads
+     * @throws IllegalArgumentException if the specified number is not positive
+     */
+    public WorkStealingScheduler(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException();
+        }
+        workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (Worker worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Submits a task. If it is called from a worker thread of this scheduler, the task goes to the worker's own deque,
+     * otherwise it goes to the shared submission queue. Workers may submit subtasks even after shutdown, so that
+     * recursive jobs that were started before can complete.
+     *
+     * @param task the task to run
+     * @throws RejectedExecutionException if the scheduler is shut down and it is called from another thread
+     */
+    @Override
+    public void execute(Runnable task) {
+        Objects.requireNonNull(task);
+        Thread thread = Thread.currentThread();
+        if (thread instanceof Worker && ((Worker) thread).belongsTo(this)) {
+            pendingTasks.incrementAndGet();
+            ((Worker) thread).deque.push(task);
+        } else {
+            pendingTasks.incrementAndGet();
+            if (shutdown) {
+                completeTask();
+                throw new RejectedExecutionException("Scheduler is shut down");
+            }
+            submissions.add(task);
+        }
+        wakeUpIdleWorker();
+    }
+
+    private void wakeUpIdleWorker() {
+        for (Worker worker : workers) {
+            if (worker.parked) {
+                LockSupport.unpark(worker);
+                return;
+            }
+        }
+    }
+
+    private void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException | Error e) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        } finally {
+            completeTask();
+        }
+    }
+
+    private void completeTask() {
+        if (pendingTasks.decrementAndGet() == 0) {
+            synchronized (quiescenceMonitor) {
+                quiescenceMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits until all submitted tasks, including the tasks they have submitted, are completed.
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit    a unit of the timeout
+     * @return {@code true} if all tasks are completed, {@code false} if the time elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitQuiescence(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (quiescenceMonitor) {
+            while (pendingTasks.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(quiescenceMonitor, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Stops accepting new tasks. Workers finish all tasks that were submitted before, and then terminate.
+     * <p>
+     * A submitting thread counts a task as pending before it checks the shutdown flag, and a worker terminates only
+     * when the flag is set and no task is pending. So a task that is submitted concurrently with shutdown is either
+     * rejected or run, and never left in the queue after all workers have terminated.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return number of workers
+     */
+    public int parallelism() {
+        return workers.length;
+    }
+}
@@ -0,0 +1,104 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ArrayQueueTest {
+
+    private Queue<Integer> integerQueue = new ArrayQueue<>(4);
+
+    @Test
+    @Order(1)
+    void add() {
+        integerQueue.add(1);
+
+        assertThat(integerQueue.size()).isEqualTo(1);
+        assertThat(integerQueue.isEmpty()).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    void addNull() {
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.add(null));
+    }
+
+    @Test
+    @Order(3)
+    void pollKeepsFifoOrder() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(4)
+    void pollWhenQueueIsEmpty() {
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(5)
+    void addAndPollWrapAroundTheArray() {
+        integerQueue.add(0);
+        integerQueue.add(1);
+        integerQueue.add(2);
+        for (int i = 3; i < 100; i++) {
+            integerQueue.add(i);
+            assertThat(integerQueue.poll()).isEqualTo(i - 3);
+        }
+
+        assertThat(integerQueue.size()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isEqualTo(97);
+    }
+
+    @Test
+    @Order(6)
+    void addGrowsWrappedQueue() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+        integerQueue.poll();
+        integerQueue.poll();
+        for (int i = 4; i <= 10; i++) {
+            integerQueue.add(i);
+        }
+
+        assertThat(integerQueue.size()).isEqualTo(8);
+        for (int i = 3; i <= 10; i++) {
+            assertThat(integerQueue.poll()).isEqualTo(i);
+        }
+        assertThat(integerQueue.poll()).isNull();
+    }
+
+    @Test
+    @Order(7)
+    void capacityIsRoundedUpToPowerOfTwo() {
+        Queue<Integer> queue = new ArrayQueue<>(3);
+        for (int i = 0; i < 20; i++) {
+            queue.add(i);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(queue.poll()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(8)
+    void notPositiveCapacityIsNotAllowed() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ArrayQueue<>(0));
+    }
+}
@@ -0,0 +1,171 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BoundedBlockingQueueTest {
+
+    private BoundedBlockingQueue<Integer> integerQueue = new BoundedBlockingQueue<>(3);
+
+    @Test
+    @Order(1)
+    void addAndPollKeepFifoOrder() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+
+        assertThat(integerQueue.size()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void addWhenQueueIsFull() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.offer(4)).isFalse();
+        assertThat(integerQueue.remainingCapacity()).isEqualTo(0);
+        assertThatIllegalStateException().isThrownBy(() -> integerQueue.add(4));
+    }
+
+    @Test
+    @Order(3)
+    void notPositiveCapacityIsNotAllowed() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BoundedBlockingQueue<>(0));
+    }
+
+    @Test
+    @Order(4)
+    void timedOfferWhenQueueIsFull() throws InterruptedException {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.offer(4, 10, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(integerQueue.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(5)
+    void timedPollWhenQueueIsEmpty() throws InterruptedException {
+        assertThat(integerQueue.poll(10, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @Order(6)
+    void putWaitsUntilConsumerTakesElement() throws Exception {
+        integerQueue.put(1);
+        integerQueue.put(2);
+        integerQueue.put(3);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        Future<?> producer = executor.submit(() -> {
+            integerQueue.put(4);
+            return null;
+        });
+        Thread.sleep(50);
+        assertThat(producer.isDone()).isFalse();
+
+        assertThat(integerQueue.take()).isEqualTo(1);
+        producer.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(integerQueue.take()).isEqualTo(2);
+        assertThat(integerQueue.take()).isEqualTo(3);
+        assertThat(integerQueue.take()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(7)
+    void takeWaitsUntilProducerPutsElement() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        Future<Integer> consumer = executor.submit(() -> integerQueue.take());
+        Thread.sleep(50);
+        assertThat(consumer.isDone()).isFalse();
+
+        integerQueue.put(42);
+        assertThat(consumer.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        executor.shutdown();
+    }
+
+    @Test
+    @Order(8)
+    void drainToMovesUpToMaxElements() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+        List<Integer> batch = new ArrayList<>();
+
+        int drained = integerQueue.drainTo(batch, 2);
+
+        assertThat(drained).isEqualTo(2);
+        assertThat(batch).containsExactly(1, 2);
+        assertThat(integerQueue.size()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(9)
+    void timedDrainToWhenQueueIsEmpty() throws InterruptedException {
+        List<Integer> batch = new ArrayList<>();
+
+        int drained = integerQueue.drainTo(batch, 10, 10, TimeUnit.MILLISECONDS);
+
+        assertThat(drained).isEqualTo(0);
+        assertThat(batch).isEmpty();
+    }
+
+    @Test
+    @Order(10)
+    void producersAndConsumerTransferAllElements() throws Exception {
+        int producers = 4;
+        int elementsPerProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    integerQueue.put(i);
+                }
+                return null;
+            }));
+        }
+
+        long sum = 0;
+        int received = 0;
+        List<Integer> batch = new ArrayList<>();
+        while (received < producers * elementsPerProducer) {
+            batch.clear();
+            received += integerQueue.drainTo(batch, 16, 5, TimeUnit.SECONDS);
+            for (int element : batch) {
+                sum += element;
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(sum).isEqualTo((long) producers * elementsPerProducer * (elementsPerProducer - 1) / 2);
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+}
@@ -224,6 +224,50 @@ public class LinkedQueueTest {
     }
 
 
+    @Test
+    @Order(16)
+    void addReusesPolledNode() {
+        integerQueue = new LinkedQueue<>(1);
+        integerQueue.add(1);
+        Object node = getNodeObject(HEAD_FIELD);
+
+        integerQueue.poll();
+        integerQueue.add(2);
+
+        assertThat(getNodeObject(HEAD_FIELD)).isSameAs(node);
+        assertThat(getNodeObject(TAIL_FIELD)).isSameAs(node);
+        assertThat(getNodeValue(HEAD_FIELD)).isEqualTo(2);
+    }
+
+    @Test
+    @Order(17)
+    void addAllocatesNewNodeByDefault() {
+        integerQueue.add(1);
+        Object node = getNodeObject(HEAD_FIELD);
+
+        integerQueue.poll();
+        integerQueue.add(2);
+
+        assertThat(getNodeObject(HEAD_FIELD)).isNotSameAs(node);
+    }
+
+    @Test
+    @Order(18)
+    void recyclingQueueKeepsOrder() {
+        integerQueue = new LinkedQueue<>(2);
+        for (int round = 0; round < 3; round++) {
+            integerQueue.add(1);
+            integerQueue.add(2);
+            integerQueue.add(3);
+
+            assertThat(integerQueue.poll()).isEqualTo(1);
+            assertThat(integerQueue.poll()).isEqualTo(2);
+            assertThat(integerQueue.poll()).isEqualTo(3);
+        }
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.size()).isEqualTo(0);
+    }
+
     private Class<?> getInnerStaticNodeClass() {
         return Arrays.stream(integerQueue.getClass().getDeclaredClasses())
                 .filter(aClass -> Modifier.isStatic(aClass.getModifiers()))
@@ -367,6 +411,11 @@ public class LinkedQueueTest {
         return field;
     }
 
+    @SneakyThrows
+    private Object getNodeObject(Predicate<Field> predicate) {
+        return getAccessibleFieldByPredicate(integerQueue, predicate).get(integerQueue);
+    }
+
     @SneakyThrows
     private Object getNodeValue(Predicate<Field> predicate) {
         Object field = getAccessibleFieldByPredicate(integerQueue, predicate).get(integerQueue);
@@ -0,0 +1,131 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LockFreeQueueTest {
+
+    private LockFreeQueue<Integer> integerQueue = new LockFreeQueue<>();
+
+    @Test
+    @Order(1)
+    void addAndPollKeepFifoOrder() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.size()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(2)
+    void pollWhenQueueIsEmpty() {
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.isEmpty()).isTrue();
+        assertThat(integerQueue.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(3)
+    void addNull() {
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.add(null));
+    }
+
+    @Test
+    @Order(4)
+    void isEmpty() {
+        integerQueue.add(1);
+
+        assertThat(integerQueue.isEmpty()).isFalse();
+        integerQueue.poll();
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(5)
+    void concurrentProducersAndConsumersTransferEveryElementOnce() throws Exception {
+        int producers = 4;
+        int consumers = 4;
+        int elementsPerProducer = 50_000;
+        int total = producers * elementsPerProducer;
+        AtomicIntegerArray received = new AtomicIntegerArray(total);
+        AtomicInteger receivedCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producerIndex = p;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    integerQueue.add(producerIndex * elementsPerProducer + i);
+                }
+                return null;
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (receivedCount.get() < total) {
+                    Integer element = integerQueue.poll();
+                    if (element != null) {
+                        received.incrementAndGet(element);
+                        receivedCount.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        for (int i = 0; i < total; i++) {
+            assertThat(received.get(i)).isEqualTo(1);
+        }
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(6)
+    void singleProducerOrderIsPreservedForConcurrentConsumer() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> producer = executor.submit(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                integerQueue.add(i);
+            }
+        });
+
+        int expected = 0;
+        while (expected < 100_000) {
+            Integer element = integerQueue.poll();
+            if (element != null) {
+                assertThat(element).isEqualTo(expected++);
+            }
+        }
+        producer.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+}
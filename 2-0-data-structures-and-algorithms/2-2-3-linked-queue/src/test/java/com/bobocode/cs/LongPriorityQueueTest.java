@@ -0,0 +1,85 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LongPriorityQueueTest {
+
+    private LongPriorityQueue<String> queue = new LongPriorityQueue<>();
+
+    @Test
+    @Order(1)
+    void pollReturnsElementsInPriorityOrder() {
+        queue.add(30, "c");
+        queue.add(10, "a");
+        queue.add(20, "b");
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo("a");
+        assertThat(queue.poll()).isEqualTo("b");
+        assertThat(queue.poll()).isEqualTo("c");
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void pollWhenQueueIsEmpty() {
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.peek()).isNull();
+    }
+
+    @Test
+    @Order(3)
+    void addNull() {
+        assertThatNullPointerException().isThrownBy(() -> queue.add(1, null));
+    }
+
+    @Test
+    @Order(4)
+    void peekPriority() {
+        queue.add(7, "x");
+        queue.add(-3, "y");
+
+        assertThat(queue.peekPriority()).isEqualTo(-3);
+        assertThat(queue.peek()).isEqualTo("y");
+    }
+
+    @Test
+    @Order(5)
+    void peekPriorityWhenQueueIsEmpty() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> queue.peekPriority());
+    }
+
+    @Test
+    @Order(6)
+    void pollReturnsElementsSortedByPriority() {
+        LongPriorityQueue<Long> longQueue = new LongPriorityQueue<>(3);
+        Random random = new Random(11);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            long priority = random.nextLong();
+            longQueue.add(priority, priority);
+            expected.add(priority);
+        }
+        expected.sort(Long::compare);
+
+        List<Long> polled = new ArrayList<>();
+        while (!longQueue.isEmpty()) {
+            polled.add(longQueue.poll());
+        }
+
+        assertThat(polled).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,153 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PriorityQueueTest {
+
+    private PriorityQueue<Integer> integerQueue = new PriorityQueue<>(Comparator.naturalOrder());
+
+    @Test
+    @Order(1)
+    void add() {
+        integerQueue.add(5);
+
+        assertThat(integerQueue.size()).isEqualTo(1);
+        assertThat(integerQueue.isEmpty()).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    void addNull() {
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.add(null));
+    }
+
+    @Test
+    @Order(3)
+    void pollReturnsElementsInComparatorOrder() {
+        integerQueue.add(5);
+        integerQueue.add(1);
+        integerQueue.add(4);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isEqualTo(4);
+        assertThat(integerQueue.poll()).isEqualTo(5);
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(4)
+    void pollWhenQueueIsEmpty() {
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.peek()).isNull();
+    }
+
+    @Test
+    @Order(5)
+    void peek() {
+        integerQueue.add(3);
+        integerQueue.add(1);
+        integerQueue.add(2);
+
+        assertThat(integerQueue.peek()).isEqualTo(1);
+        assertThat(integerQueue.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(6)
+    void reversedComparator() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Comparator.reverseOrder());
+        queue.add(1);
+        queue.add(3);
+        queue.add(2);
+
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(7)
+    void createQueueWithInvalidArity() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new PriorityQueue<Integer>(1, Comparator.naturalOrder()));
+    }
+
+    @Test
+    @Order(8)
+    void pollReturnsSortedElementsForDifferentArities() {
+        Random random = new Random(42);
+        for (int arity = 2; arity <= 8; arity++) {
+            PriorityQueue<Integer> queue = new PriorityQueue<>(arity, Comparator.naturalOrder());
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                int element = random.nextInt(500);
+                queue.add(element);
+                expected.add(element);
+            }
+            expected.sort(Comparator.naturalOrder());
+
+            assertThat(pollAll(queue)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @Order(9)
+    void heapify() {
+        Random random = new Random(7);
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(random.nextInt());
+        }
+
+        PriorityQueue<Integer> queue = PriorityQueue.heapify(Comparator.naturalOrder(), elements);
+
+        assertThat(queue.size()).isEqualTo(1000);
+        elements.sort(Comparator.naturalOrder());
+        assertThat(pollAll(queue)).isEqualTo(elements);
+    }
+
+    @Test
+    @Order(10)
+    void heapifyAndThenAdd() {
+        PriorityQueue<Integer> queue = PriorityQueue.heapify(3, Comparator.naturalOrder(), List.of(4, 2, 6));
+        queue.add(1);
+        queue.add(5);
+
+        assertThat(pollAll(queue)).containsExactly(1, 2, 4, 5, 6);
+    }
+
+    @Test
+    @Order(11)
+    void heapifyEmptyCollection() {
+        PriorityQueue<Integer> queue = PriorityQueue.heapify(Comparator.<Integer>naturalOrder(), List.of());
+
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isNull();
+    }
+
+    private List<Integer> pollAll(PriorityQueue<Integer> queue) {
+        List<Integer> polled = new ArrayList<>();
+        Integer element;
+        while ((element = queue.poll()) != null) {
+            polled.add(element);
+        }
+        return polled;
+    }
+}
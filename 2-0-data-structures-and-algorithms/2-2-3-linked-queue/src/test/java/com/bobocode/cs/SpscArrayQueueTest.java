@@ -0,0 +1,178 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SpscArrayQueueTest {
+
+    private SpscArrayQueue<Integer> integerQueue = new SpscArrayQueue<>(4);
+
+    @Test
+    @Order(1)
+    void addAndPollKeepFifoOrder() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.size()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void pollWhenQueueIsEmpty() {
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(3)
+    void addNull() {
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.add(null));
+    }
+
+    @Test
+    @Order(4)
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new SpscArrayQueue<Integer>(5).capacity()).isEqualTo(8);
+        assertThat(new SpscArrayQueue<Integer>(1).capacity()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(5)
+    void createQueueWithNonPositiveCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SpscArrayQueue<Integer>(0));
+    }
+
+    @Test
+    @Order(6)
+    void offerWhenQueueIsFull() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(integerQueue.offer(i)).isTrue();
+        }
+
+        assertThat(integerQueue.offer(4)).isFalse();
+        assertThatIllegalStateException().isThrownBy(() -> integerQueue.add(4));
+        assertThat(integerQueue.poll()).isEqualTo(0);
+        assertThat(integerQueue.offer(4)).isTrue();
+    }
+
+    @Test
+    @Order(7)
+    void addAndPollWrapAroundTheArray() {
+        for (int i = 0; i < 100; i++) {
+            integerQueue.add(i);
+            assertThat(integerQueue.poll()).isEqualTo(i);
+        }
+
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(8)
+    void batchPoll() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+        List<Integer> polled = new ArrayList<>();
+
+        assertThat(integerQueue.poll(2, polled::add)).isEqualTo(2);
+        assertThat(polled).containsExactly(1, 2);
+        assertThat(integerQueue.poll(5, polled::add)).isEqualTo(1);
+        assertThat(polled).containsExactly(1, 2, 3);
+        assertThat(integerQueue.poll(5, polled::add)).isEqualTo(0);
+    }
+
+    @Test
+    @Order(9)
+    void batchPollFreesSpaceForProducer() {
+        for (int i = 0; i < 4; i++) {
+            integerQueue.add(i);
+        }
+
+        integerQueue.poll(3, element -> {
+        });
+
+        assertThat(integerQueue.size()).isEqualTo(1);
+        assertThat(integerQueue.offer(4)).isTrue();
+        assertThat(integerQueue.offer(5)).isTrue();
+        assertThat(integerQueue.offer(6)).isTrue();
+        assertThat(integerQueue.offer(7)).isFalse();
+    }
+
+    @Test
+    @Order(10)
+    void batchPollKeepsRemainingElementsIfConsumerThrowsException() {
+        for (int i = 0; i < 4; i++) {
+            integerQueue.add(i);
+        }
+        List<Integer> polled = new ArrayList<>();
+
+        assertThatIllegalStateException().isThrownBy(() -> integerQueue.poll(4, element -> {
+            polled.add(element);
+            if (element == 1) {
+                throw new IllegalStateException();
+            }
+        }));
+
+        assertThat(polled).containsExactly(0, 1);
+        assertThat(integerQueue.size()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isNull();
+    }
+
+    @Test
+    @Order(11)
+    void producerAndConsumerThreadsTransferAllElementsInOrder() throws Exception {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(64);
+        int total = 200_000;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> producer = executor.submit(() -> {
+            for (int i = 0; i < total; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+
+        int[] expected = {0};
+        while (expected[0] < total) {
+            boolean polled;
+            if (expected[0] % 2 == 0) {
+                polled = queue.poll(16, element -> assertThat(element).isEqualTo(expected[0]++)) > 0;
+            } else {
+                Integer element = queue.poll();
+                polled = element != null;
+                if (polled) {
+                    assertThat(element).isEqualTo(expected[0]++);
+                }
+            }
+            if (!polled) {
+                Thread.yield();
+            }
+        }
+        producer.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,163 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TimingWheelTest {
+
+    private TimingWheel<String> wheel = new TimingWheel<>(1, TimeUnit.MILLISECONDS, 4);
+
+    @Test
+    @Order(1)
+    void taskExpiresAtItsDeadline() {
+        TimingWheel.Timeout<String> timeout = wheel.schedule(3, TimeUnit.MILLISECONDS, "task");
+
+        wheel.advance(2);
+        assertThat(wheel.poll()).isNull();
+        assertThat(timeout.isExpired()).isFalse();
+
+        wheel.tick();
+        assertThat(wheel.poll()).isEqualTo("task");
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(wheel.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(2)
+    void scheduleWithZeroDelay() {
+        wheel.schedule(0, TimeUnit.MILLISECONDS, "now");
+
+        assertThat(wheel.poll()).isEqualTo("now");
+    }
+
+    @Test
+    @Order(3)
+    void scheduleNull() {
+        assertThatNullPointerException().isThrownBy(() -> wheel.schedule(1, TimeUnit.MILLISECONDS, null));
+    }
+
+    @Test
+    @Order(4)
+    void delayIsRoundedUpToTicks() {
+        TimingWheel<String> coarseWheel = new TimingWheel<>(10, TimeUnit.MILLISECONDS);
+        TimingWheel.Timeout<String> timeout = coarseWheel.schedule(25, TimeUnit.MILLISECONDS, "task");
+
+        assertThat(timeout.deadline()).isEqualTo(3);
+        coarseWheel.advance(2);
+        assertThat(coarseWheel.poll()).isNull();
+        coarseWheel.tick();
+        assertThat(coarseWheel.poll()).isEqualTo("task");
+    }
+
+    @Test
+    @Order(5)
+    void cancel() {
+        TimingWheel.Timeout<String> cancelled = wheel.schedule(2, TimeUnit.MILLISECONDS, "cancelled");
+        wheel.schedule(2, TimeUnit.MILLISECONDS, "kept");
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+        wheel.advance(2);
+
+        assertThat(wheel.poll()).isEqualTo("kept");
+        assertThat(wheel.poll()).isNull();
+        assertThat(cancelled.cancel()).isFalse();
+    }
+
+    @Test
+    @Order(6)
+    void cancelExpiredTimeout() {
+        TimingWheel.Timeout<String> timeout = wheel.schedule(1, TimeUnit.MILLISECONDS, "task");
+        wheel.tick();
+
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(timeout.isCancelled()).isFalse();
+    }
+
+    @Test
+    @Order(7)
+    void tasksOnUpperLevelsExpireAtTheirDeadlines() {
+        wheel.schedule(1000, TimeUnit.MILLISECONDS, "far");
+        wheel.schedule(17, TimeUnit.MILLISECONDS, "middle");
+        wheel.advance(16);
+        assertThat(wheel.poll()).isNull();
+
+        wheel.tick();
+        assertThat(wheel.poll()).isEqualTo("middle");
+        wheel.advance(982);
+        assertThat(wheel.poll()).isNull();
+        wheel.tick();
+        assertThat(wheel.poll()).isEqualTo("far");
+    }
+
+    @Test
+    @Order(8)
+    void cancelTaskOnUpperLevel() {
+        TimingWheel.Timeout<String> timeout = wheel.schedule(500, TimeUnit.MILLISECONDS, "far");
+        wheel.advance(100);
+
+        assertThat(timeout.cancel()).isTrue();
+        wheel.advance(500);
+        assertThat(wheel.poll()).isNull();
+        assertThat(wheel.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(9)
+    void randomTasksExpireExactlyAtTheirDeadlines() {
+        TimingWheel<Long> longWheel = new TimingWheel<>(1, TimeUnit.MILLISECONDS, 8);
+        Random random = new Random(3);
+        List<TimingWheel.Timeout<Long>> timeouts = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            longWheel.tick();
+            long delay = random.nextInt(5000);
+            TimingWheel.Timeout<Long> timeout = longWheel.schedule(delay, TimeUnit.MILLISECONDS,
+                    longWheel.currentTick() + delay);
+            if (random.nextInt(4) == 0) {
+                timeout.cancel();
+            } else {
+                timeouts.add(timeout);
+            }
+            assertExpiredTasksAreDue(longWheel);
+        }
+
+        int expired = 0;
+        while (longWheel.size() > 0) {
+            longWheel.tick();
+            expired += assertExpiredTasksAreDue(longWheel);
+        }
+
+        assertThat(timeouts.stream().allMatch(TimingWheel.Timeout::isExpired)).isTrue();
+        assertThat(expired).isLessThanOrEqualTo(timeouts.size());
+    }
+
+    private int assertExpiredTasksAreDue(TimingWheel<Long> longWheel) {
+        int count = 0;
+        Long deadline;
+        while ((deadline = longWheel.poll()) != null) {
+            assertThat(deadline).isEqualTo(longWheel.currentTick());
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    @Order(10)
+    void createWheelWithInvalidSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TimingWheel<String>(1, TimeUnit.MILLISECONDS, 6));
+        assertThatIllegalArgumentException().isThrownBy(() -> new TimingWheel<String>(0, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,141 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class WorkStealingDequeTest {
+
+    private WorkStealingDeque<Integer> deque = new WorkStealingDeque<>(4);
+
+    @Test
+    @Order(1)
+    void popReturnsLastPushedElement() {
+        deque.push(1);
+        deque.push(2);
+        deque.push(3);
+
+        assertThat(deque.size()).isEqualTo(3);
+        assertThat(deque.pop()).isEqualTo(3);
+        assertThat(deque.pop()).isEqualTo(2);
+        assertThat(deque.pop()).isEqualTo(1);
+        assertThat(deque.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void stealReturnsFirstPushedElement() {
+        deque.push(1);
+        deque.push(2);
+        deque.push(3);
+
+        assertThat(deque.steal()).isEqualTo(1);
+        assertThat(deque.steal()).isEqualTo(2);
+        assertThat(deque.pop()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(3)
+    void popAndStealWhenDequeIsEmpty() {
+        assertThat(deque.pop()).isNull();
+        assertThat(deque.steal()).isNull();
+        assertThat(deque.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(4)
+    void pushNull() {
+        assertThatNullPointerException().isThrownBy(() -> deque.push(null));
+    }
+
+    @Test
+    @Order(5)
+    void pushGrowsTheArray() {
+        for (int i = 0; i < 100; i++) {
+            deque.push(i);
+        }
+        deque.steal();
+
+        assertThat(deque.size()).isEqualTo(99);
+        for (int i = 99; i > 0; i--) {
+            assertThat(deque.pop()).isEqualTo(i);
+        }
+        assertThat(deque.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(6)
+    void pushAndStealWrapAroundTheArray() {
+        for (int i = 0; i < 100; i++) {
+            deque.push(i);
+            assertThat(deque.steal()).isEqualTo(i);
+        }
+
+        assertThat(deque.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(7)
+    void everyElementIsTakenOnceWhenThievesCompeteWithOwner() throws Exception {
+        int thieves = 3;
+        int total = 200_000;
+        AtomicIntegerArray taken = new AtomicIntegerArray(total);
+        AtomicBoolean ownerDone = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(thieves);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < thieves; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (!ownerDone.get() || !deque.isEmpty()) {
+                    Integer element = deque.steal();
+                    if (element != null) {
+                        taken.incrementAndGet(element);
+                    } else {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (int i = 0; i < total; i++) {
+            deque.push(i);
+            if (i % 3 == 0) {
+                Integer element = deque.pop();
+                if (element != null) {
+                    taken.incrementAndGet(element);
+                }
+            }
+        }
+        Integer element;
+        while ((element = deque.pop()) != null) {
+            taken.incrementAndGet(element);
+        }
+        ownerDone.set(true);
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        for (int i = 0; i < total; i++) {
+            assertThat(taken.get(i)).isEqualTo(1);
+        }
+    }
+}
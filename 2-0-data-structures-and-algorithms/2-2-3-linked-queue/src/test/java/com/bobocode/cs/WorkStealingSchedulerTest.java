@@ -0,0 +1,159 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class WorkStealingSchedulerTest {
+
+    private WorkStealingScheduler scheduler = new WorkStealingScheduler(4);
+
+    @AfterEach
+    void shutdownScheduler() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @Order(1)
+    void executeRunsTask() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        scheduler.execute(latch::countDown);
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void recursiveJobIsCompleted() throws InterruptedException {
+        AtomicLong sum = new AtomicLong();
+
+        scheduler.execute(() -> sumRange(1, 1_000_000, sum));
+
+        assertThat(scheduler.awaitQuiescence(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(sum.get()).isEqualTo(500_000_500_000L);
+    }
+
+    private void sumRange(long from, long to, AtomicLong sum) {
+        if (to - from < 1000) {
+            long localSum = 0;
+            for (long i = from; i <= to; i++) {
+                localSum += i;
+            }
+            sum.addAndGet(localSum);
+        } else {
+            long middle = (from + to) >>> 1;
+            scheduler.execute(() -> sumRange(from, middle, sum));
+            scheduler.execute(() -> sumRange(middle + 1, to, sum));
+        }
+    }
+
+    @Test
+    @Order(3)
+    void workIsSpreadAcrossWorkers() throws InterruptedException {
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        CountDownLatch allStarted = new CountDownLatch(4);
+
+        scheduler.execute(() -> {
+            for (int i = 0; i < 4; i++) {
+                scheduler.execute(() -> {
+                    threadNames.add(Thread.currentThread().getName());
+                    allStarted.countDown();
+                    awaitQuietly(allStarted);
+                });
+            }
+        });
+
+        assertThat(scheduler.awaitQuiescence(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadNames.size()).isEqualTo(4);
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @Order(4)
+    void failingTaskDoesNotStopWorker() throws InterruptedException {
+        AtomicInteger completed = new AtomicInteger();
+        Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, e) -> {
+        });
+        try {
+            for (int i = 0; i < 10; i++) {
+                scheduler.execute(() -> {
+                    throw new IllegalStateException();
+                });
+                scheduler.execute(completed::incrementAndGet);
+            }
+
+            assertThat(scheduler.awaitQuiescence(30, TimeUnit.SECONDS)).isTrue();
+            assertThat(completed.get()).isEqualTo(10);
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(handler);
+        }
+    }
+
+    @Test
+    @Order(5)
+    void executeAfterShutdown() {
+        scheduler.shutdown();
+
+        assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> scheduler.execute(() -> {
+        }));
+    }
+
+    @Test
+    @Order(6)
+    void createSchedulerWithNonPositiveParallelism() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new WorkStealingScheduler(0));
+    }
+
+    @Test
+    @Order(7)
+    void taskSubmittedConcurrentlyWithShutdownIsEitherRejectedOrRun() throws InterruptedException {
+        for (int round = 0; round < 200; round++) {
+            WorkStealingScheduler racingScheduler = new WorkStealingScheduler(2);
+            AtomicInteger accepted = new AtomicInteger();
+            AtomicInteger completed = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(1);
+            Thread submitter = new Thread(() -> {
+                started.countDown();
+                try {
+                    while (true) {
+                        racingScheduler.execute(completed::incrementAndGet);
+                        accepted.incrementAndGet();
+                    }
+                } catch (RejectedExecutionException e) {
+                    // the scheduler is shut down
+                }
+            });
+            submitter.start();
+            started.await();
+            racingScheduler.shutdown();
+            submitter.join();
+
+            assertThat(racingScheduler.awaitQuiescence(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(completed.get()).isEqualTo(accepted.get());
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.bobocode.cs;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * {@link IndexableSkipList} is a list implementation that is based on a skip list. Every node is linked on one or more
+ * levels, and every link stores its span, i.e. the number of positions it skips over. Following the spans from the top
+ * level down allows to reach any index in O(log n) expected time, so {@link IndexableSkipList#get(int)},
+ * {@link IndexableSkipList#set(int, Object)}, {@link IndexableSkipList#add(int, Object)} and
+ * {@link IndexableSkipList#remove(int)} are all logarithmic, unlike {@link LinkedList} (O(n) access) and
+ * {@code ArrayList} (O(n) insertion).
+ * <p>
+ * A head node is a sentinel that is linked on all levels and that sits before the first element (at position -1).
+ *
+ * @param <T> generic type parameter
+ */
+public class IndexableSkipList<T> implements List<T> {
+
+    private static final int MAX_LEVEL = 32;
+
+    private final Node<T> head = Node.withLevel(null, MAX_LEVEL);
+
+    private Node<T> tail;
+
+    private int level = 1;
+
+    private int size;
+
+    private static class Node<T> {
+
+        T element;
+
+        final Node<T>[] next;
+
+        final int[] span;
+
+        @SuppressWarnings("unchecked")
+        private Node(T element, int level) {
+            this.element = element;
+            this.next = (Node<T>[]) new Node<?>[level];
+            this.span = new int[level];
+        }
+
+        public static <T> Node<T> withLevel(T element, int level) {
+            return new Node<>(element, level);
+        }
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    public static <T> IndexableSkipList<T> of(T... elements) {
+        IndexableSkipList<T> skipList = new IndexableSkipList<>();
+        Stream.of(elements).forEach(skipList::add);
+        return skipList;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        add(size, element);
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. Operation is performed in O(log n) expected time.
+     * In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        Objects.requireNonNull(element);
+        @SuppressWarnings("unchecked")
+        Node<T>[] update = (Node<T>[]) new Node<?>[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        findPredecessors(index, update, rank);
+
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                update[i] = head;
+                rank[i] = -1;
+                head.span[i] = size + 1;
+            }
+            level = newLevel;
+        }
+
+        Node<T> newNode = Node.withLevel(element, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            int distanceToPredecessor = rank[0] - rank[i];
+            newNode.next[i] = update[i].next[i];
+            newNode.span[i] = update[i].span[i] - distanceToPredecessor;
+            update[i].next[i] = newNode;
+            update[i].span[i] = distanceToPredecessor + 1;
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        if (newNode.next[0] == null) {
+            tail = newNode;
+        }
+        size++;
+    }
+
+    /**
+     * Fills the nodes that precede the provided index on every level, together with their positions.
+     */
+    private void findPredecessors(int index, Node<T>[] update, int[] rank) {
+        Node<T> node = head;
+        int position = -1;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && position + node.span[i] < index) {
+                position += node.span[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+            rank[i] = position;
+        }
+    }
+
+    private int randomLevel() {
+        int newLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (newLevel < MAX_LEVEL && random.nextBoolean()) {
+            newLevel++;
+        }
+        return newLevel;
+    }
+
+    private Node<T> findNodeByIndex(int index) {
+        Objects.checkIndex(index, size);
+        Node<T> node = head;
+        int position = -1;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && position + node.span[i] <= index) {
+                position += node.span[i];
+                node = node.next[i];
+            }
+            if (position == index) {
+                break;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Changes the value of a list element at specific position. Operation is performed in O(log n) expected time.
+     * In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   a position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        Node<T> node = findNodeByIndex(index);
+        node.element = Objects.requireNonNull(element);
+    }
+
+    /**
+     * Retrieves an elements by its position index. Operation is performed in O(log n) expected time.
+     * In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        return findNodeByIndex(index).element;
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return head.next[0].element;
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return tail.element;
+    }
+
+    /**
+     * Removes an elements by its position index. Operation is performed in O(log n) expected time.
+     * In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        @SuppressWarnings("unchecked")
+        Node<T>[] update = (Node<T>[]) new Node<?>[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        findPredecessors(index, update, rank);
+
+        Node<T> removedNode = update[0].next[0];
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == removedNode) {
+                update[i].span[i] += removedNode.span[i] - 1;
+                update[i].next[i] = removedNode.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        if (removedNode == tail) {
+            tail = update[0] == head ? null : update[0];
+        }
+        size--;
+        return removedNode.element;
+    }
+
+    /**
+     * Checks if a specific exists in the list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (Node<T> node = head.next[0]; node != null; node = node.next[0]) {
+            if (node.element.equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < level; i++) {
+            head.next[i] = null;
+            head.span[i] = 0;
+        }
+        level = 1;
+        tail = null;
+        size = 0;
+    }
+}
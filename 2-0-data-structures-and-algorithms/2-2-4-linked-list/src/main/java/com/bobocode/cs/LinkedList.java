@@ -1,13 +1,17 @@
 package com.bobocode.cs;
 
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
- * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
- * inner static class {@link Node<T>}.
+ * {@link LinkedList} is a list implementation that is based on doubly linked generic nodes. A node is implemented as
+ * inner static class {@link Node<T>}. Since every node keeps a reference to its previous node, positional operations
+ * start from whichever end of the list is closer to the requested index.
  * <p><p>
  * <strong>To get the most out of your learning, <a href="https://www.bobocode.com/learn">visit our website</a></strong>
  * <p>
@@ -16,7 +20,7 @@ import java.util.stream.Stream;
  * @author Taras Boychuk
  * @author Serhii Hryhus
  */
-public class LinkedList<T> implements List<T> {
+public class LinkedList<T> implements List<T>, Iterable<T> {
 
     private Node<T> head;
 
@@ -24,12 +28,22 @@ public class LinkedList<T> implements List<T> {
 
     private int size;
 
+    private int modCount;
+
+    private final int maxFreeNodes;
+
+    private Node<T> freeNodes;
+
+    private int freeNodesCount;
+
     private static class Node<T> {
 
         T element;
 
         Node<T> next;
 
+        Node<T> prev;
+
         private Node(T element) {
             this.element = element;
         }
@@ -39,6 +53,28 @@ public class LinkedList<T> implements List<T> {
         }
     }
 
+    /**
+     * This constructor creates an instance of {@link LinkedList} that allocates a new node for every added element.
+     */
+    public LinkedList() {
+        this(0);
+    }
+
+    /**
+     * This constructor creates an instance of {@link LinkedList} that reuses nodes of removed elements. Up to
+     * {@code maxFreeNodes} unlinked nodes are kept in a free list, and every add operation (including
+     * {@link ListIterator#add(Object)}) takes a node from it before allocating a new one.
+     *
+     * @param maxFreeNodes max number of nodes that are kept for reuse
+     * @throws IllegalArgumentException if the specified number is negative
+     */
+    public LinkedList(int maxFreeNodes) {
+        if (maxFreeNodes < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.maxFreeNodes = maxFreeNodes;
+    }
+
     /**
      * This method creates a list of provided elements
      *
@@ -53,25 +89,14 @@ public class LinkedList<T> implements List<T> {
     }
 
     /**
-     * Adds an element to the end of the list.
+     * Adds an element to the end of the list. Operation is performed in constant time O(1)
      *
      * @param element element to add
      */
     @Override
     public void add(T element) {
         Objects.requireNonNull(element);
-        Node<T> newNode = Node.valueOf(element);
-        if (head == null) {
-            head = newNode;
-            tail = head;
-        } else {
-            tail.next = newNode;
-            while (tail.next != null) {
-                tail = tail.next;
-            }
-            tail.next = newNode;
-        }
-        size++;
+        linkLast(newNode(element));
     }
 
     /**
@@ -83,41 +108,103 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void add(int index, T element) {
-        Node<T> newNode = Node.valueOf(element);
-        if (index == 0) {
-            newNode.next = head;
+        Objects.checkIndex(index, size + 1);
+        Node<T> newNode = newNode(element);
+        if (index == size) {
+            linkLast(newNode);
+        } else {
+            linkBefore(newNode, nodeAt(index));
+        }
+    }
+
+    private void linkLast(Node<T> newNode) {
+        if (tail == null) {
             head = newNode;
-            if (head.next == null) {
-                tail = head;
-            }
-        } else if (index == size) {
+        } else {
             tail.next = newNode;
-            tail = newNode;
+            newNode.prev = tail;
+        }
+        tail = newNode;
+        size++;
+        modCount++;
+    }
+
+    private void linkBefore(Node<T> newNode, Node<T> nextNode) {
+        Node<T> previousNode = nextNode.prev;
+        newNode.prev = previousNode;
+        newNode.next = nextNode;
+        nextNode.prev = newNode;
+        if (previousNode == null) {
+            head = newNode;
         } else {
-            add(index, newNode);
+            previousNode.next = newNode;
         }
         size++;
+        modCount++;
+    }
+
+    private T unlink(Node<T> node) {
+        Node<T> previousNode = node.prev;
+        Node<T> nextNode = node.next;
+        if (previousNode == null) {
+            head = nextNode;
+        } else {
+            previousNode.next = nextNode;
+        }
+        if (nextNode == null) {
+            tail = previousNode;
+        } else {
+            nextNode.prev = previousNode;
+        }
+        node.prev = node.next = null;
+        size--;
+        modCount++;
+        T element = node.element;
+        recycle(node);
+        return element;
     }
 
-    private void add(int index, Node<T> newNode) {
-        Node<T> node = findNodeByIndex(index - 1);
-        newNode.next = node.next;
-        node.next = newNode;
+    private Node<T> newNode(T element) {
+        Node<T> node = freeNodes;
+        if (node == null) {
+            return Node.valueOf(element);
+        }
+        freeNodes = node.next;
+        freeNodesCount--;
+        node.next = null;
+        node.element = element;
+        return node;
+    }
+
+    private void recycle(Node<T> node) {
+        node.element = null;
+        if (freeNodesCount < maxFreeNodes) {
+            node.next = freeNodes;
+            freeNodes = node;
+            freeNodesCount++;
+        }
     }
 
     private Node<T> findNodeByIndex(int index) {
         Objects.checkIndex(index, size);
-        if (index == size - 1) {
-            return tail;
-        } else {
-            return nodeAt(index);
-        }
+        return nodeAt(index);
     }
 
+    /**
+     * Walks to the node starting from the closest end of the list, so it never visits more than a half of the nodes.
+     */
     private Node<T> nodeAt(int index) {
-        Node<T> currentNode = head;
-        for (int i = 0; i < index; i++) {
-            currentNode = currentNode.next;
+        Node<T> currentNode;
+        if (index < (size >> 1)) {
+            currentNode = head;
+            for (int i = 0; i < index; i++) {
+                currentNode = currentNode.next;
+            }
+        } else {
+            currentNode = tail;
+            for (int i = size - 1; i > index; i--) {
+                currentNode = currentNode.prev;
+            }
         }
         return currentNode;
     }
@@ -205,25 +292,7 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public T remove(int index) {
-        Objects.checkIndex(index, size);
-        if (index == 0) {
-            Node<T> currentHead = head;
-            head = head.next;
-            if (head.next == null) {
-                tail = head;
-            }
-            size--;
-            return currentHead.element;
-        } else {
-            Node<T> previousNode = findNodeByIndex(index-1);
-            Node<T> nextNode = findNodeByIndex(index);
-            previousNode.next = nextNode.next;
-            if (nextNode.next == null) {
-                tail = previousNode;
-            }
-            size--;
-            return nextNode.element;
-        }
+        return unlink(findNodeByIndex(index));
     }
 
 
@@ -271,5 +340,150 @@ public class LinkedList<T> implements List<T> {
     public void clear() {
         head = tail = null;
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator over the list elements in proper sequence.
+     *
+     * @return an iterator that starts at the head of the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator();
+    }
+
+    /**
+     * Returns a list iterator that starts at the head of the list.
+     *
+     * @return a list iterator over the list elements
+     * @see LinkedList#listIterator(int)
+     */
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a list iterator (a cursor) that starts at the specific position in the list. Unlike positional
+     * operations of the list, {@link ListIterator#add(Object)}, {@link ListIterator#set(Object)} and
+     * {@link ListIterator#remove()} relink nodes around the cursor and are performed in constant time O(1).
+     * <p>
+     * The iterator is fail-fast: if the list is structurally modified after the iterator is created in any way except
+     * through the iterator's own {@code add} and {@code remove} methods, it throws
+     * {@link ConcurrentModificationException}.
+     *
+     * @param index an index of the element that is returned by the first call to {@link ListIterator#next()}
+     * @return a list iterator over the list elements
+     * @throws IndexOutOfBoundsException if the index is out of range {@code (index < 0 || index > size())}
+     */
+    public ListIterator<T> listIterator(int index) {
+        Objects.checkIndex(index, size + 1);
+        return new ListItr(index);
+    }
+
+    private class ListItr implements ListIterator<T> {
+
+        private Node<T> next;
+
+        private Node<T> lastReturned;
+
+        private int nextIndex;
+
+        private int expectedModCount = modCount;
+
+        private ListItr(int index) {
+            next = index == size ? null : nodeAt(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            next = next == null ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.element;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            Node<T> lastNext = lastReturned.next;
+            unlink(lastReturned);
+            if (next == lastReturned) {
+                next = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T element) {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            lastReturned.element = element;
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            Objects.requireNonNull(element);
+            if (next == null) {
+                linkLast(newNode(element));
+            } else {
+                linkBefore(newNode(element), next);
+            }
+            lastReturned = null;
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
     }
 }
@@ -0,0 +1,187 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.function.Consumer;
+
+/**
+ * {@link LockFreeSortedLinkedSet} is a thread-safe sorted set that is based on singly linked generic nodes and does not
+ * use locks (Harris-Michael lock-free list). Elements are kept in ascending order between two sentinel nodes.
+ * <p>
+ * A reference to the next node is stored together with a "removed" mark in {@link AtomicMarkableReference}. An element
+ * is removed in two steps: first the next reference of its node is marked (logical removal, the linearization point),
+ * then the node is unlinked with CAS. Any thread that finds a marked node on its way unlinks it, so a stalled remover
+ * never blocks others. {@link LockFreeSortedLinkedSet#add(Comparable)} and
+ * {@link LockFreeSortedLinkedSet#remove(Comparable)} are linearizable and lock-free,
+ * {@link LockFreeSortedLinkedSet#contains(Comparable)} is wait-free: it never writes and never retries.
+ *
+ * @param <T> a type of elements that are stored in the set
+ */
+public class LockFreeSortedLinkedSet<T extends Comparable<? super T>> {
+
+    private final Node<T> tail = new Node<>(null, null);
+
+    private final Node<T> head = new Node<>(null, tail);
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private static class Node<T> {
+
+        final T element;
+
+        final AtomicMarkableReference<Node<T>> next;
+
+        private Node(T element, Node<T> next) {
+            this.element = element;
+            this.next = new AtomicMarkableReference<>(next, false);
+        }
+    }
+
+    /**
+     * A pair of adjacent nodes where the first one holds an element less than the searched one, and the second one
+     * holds an element that is equal or greater than the searched one (or is the tail).
+     */
+    private static class Window<T> {
+
+        final Node<T> pred;
+
+        final Node<T> curr;
+
+        private Window(Node<T> pred, Node<T> curr) {
+            this.pred = pred;
+            this.curr = curr;
+        }
+    }
+
+    /**
+     * Adds an element to the set, keeping the ascending order.
+     *
+     * @param element element to add
+     * @return {@code true} if element did not exist in the set and was added
+     */
+    public boolean add(T element) {
+        Objects.requireNonNull(element);
+        while (true) {
+            Window<T> window = find(element);
+            if (holds(window.curr, element)) {
+                return false;
+            }
+            Node<T> newNode = new Node<>(element, window.curr);
+            if (window.pred.next.compareAndSet(window.curr, newNode, false, false)) {
+                size.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes an element from the set.
+     *
+     * @param element element to remove
+     * @return {@code true} if element existed in the set and was removed by this call
+     */
+    public boolean remove(T element) {
+        Objects.requireNonNull(element);
+        while (true) {
+            Window<T> window = find(element);
+            Node<T> curr = window.curr;
+            if (!holds(curr, element)) {
+                return false;
+            }
+            Node<T> succ = curr.next.getReference();
+            if (curr.next.compareAndSet(succ, succ, false, true)) {
+                window.pred.next.compareAndSet(curr, succ, false, false);
+                size.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Checks if the set contains an element. It walks the list once without helping to unlink removed nodes, so it
+     * finishes in a bounded number of steps regardless of other threads.
+     *
+     * @param element element to search
+     * @return {@code true} if the set contains the element
+     */
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> curr = head.next.getReference();
+        while (curr != tail && curr.element.compareTo(element) < 0) {
+            curr = curr.next.getReference();
+        }
+        return holds(curr, element) && !curr.next.isMarked();
+    }
+
+    /**
+     * Returns the number of elements in the set. The value is exact when there are no concurrent modifications.
+     *
+     * @return number of elements
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Checks if the set is empty. Removed nodes that are not unlinked yet are skipped, the same way
+     * {@link LockFreeSortedLinkedSet#forEach(Consumer)} skips them.
+     *
+     * @return {@code true} if the set is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        Node<T> curr = head.next.getReference();
+        while (curr != tail && curr.next.isMarked()) {
+            curr = curr.next.getReference();
+        }
+        return curr == tail;
+    }
+
+    /**
+     * Traverses the set in ascending order. The traversal is weakly consistent: it never fails because of concurrent
+     * modifications, and it may or may not see elements that were added or removed after it had started.
+     *
+     * @param consumer accepts elements during traversing
+     */
+    public void forEach(Consumer<T> consumer) {
+        Node<T> curr = head.next.getReference();
+        while (curr != tail) {
+            if (!curr.next.isMarked()) {
+                consumer.accept(curr.element);
+            }
+            curr = curr.next.getReference();
+        }
+    }
+
+    private boolean holds(Node<T> node, T element) {
+        return node != tail && node.element.compareTo(element) == 0;
+    }
+
+    /**
+     * Finds a window for an element, unlinking all marked nodes on the way. If some unlinking CAS fails, the list
+     * has changed around the current node, and the search starts over from the head.
+     */
+    private Window<T> find(T element) {
+        boolean[] marked = {false};
+        retry:
+        while (true) {
+            Node<T> pred = head;
+            Node<T> curr = pred.next.getReference();
+            while (true) {
+                Node<T> succ = curr == tail ? null : curr.next.get(marked);
+                while (curr != tail && marked[0]) {
+                    if (!pred.next.compareAndSet(curr, succ, false, false)) {
+                        continue retry;
+                    }
+                    curr = succ;
+                    succ = curr == tail ? null : curr.next.get(marked);
+                }
+                if (curr == tail || curr.element.compareTo(element) >= 0) {
+                    return new Window<>(pred, curr);
+                }
+                pred = curr;
+                curr = succ;
+            }
+        }
+    }
+}
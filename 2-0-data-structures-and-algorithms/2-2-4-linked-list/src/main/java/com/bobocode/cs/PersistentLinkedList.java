@@ -0,0 +1,304 @@
+package com.bobocode.cs;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link PersistentLinkedList} is an immutable list that is based on singly linked generic nodes (a cons list). Instead
+ * of changing the list, "modifications" like {@link PersistentLinkedList#prepend(Object)} or
+ * {@link PersistentLinkedList#with(int, Object)} return a new version of the list that shares all untouched nodes with
+ * the old one. The old version stays valid, so taking a snapshot costs nothing, and since nodes are never changed after
+ * creation, readers can use any version from any thread without locking.
+ * <p>
+ * Operations at the head of the list are performed in constant time O(1). Positional operations copy only the nodes
+ * that precede the index and share the rest. Mutating methods of {@link List} throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @param <T> generic type parameter
+ */
+public final class PersistentLinkedList<T> implements List<T>, Iterable<T> {
+
+    private static final PersistentLinkedList<?> EMPTY = new PersistentLinkedList<>(null, null, null, 0);
+
+    private final T head;
+
+    private final PersistentLinkedList<T> rest;
+
+    private final T last;
+
+    private final int size;
+
+    private PersistentLinkedList(T head, PersistentLinkedList<T> rest, T last, int size) {
+        this.head = head;
+        this.rest = rest;
+        this.last = last;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty list. All empty lists are the same instance.
+     *
+     * @param <T> generic type
+     * @return an empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentLinkedList<T> empty() {
+        return (PersistentLinkedList<T>) EMPTY;
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> PersistentLinkedList<T> of(T... elements) {
+        PersistentLinkedList<T> list = empty();
+        for (int i = elements.length - 1; i >= 0; i--) {
+            list = list.prepend(elements[i]);
+        }
+        return list;
+    }
+
+    /**
+     * Returns a new list with an element added to the beginning. Operation is performed in constant time O(1), the
+     * whole current list becomes the rest of the new one.
+     *
+     * @param element element to add
+     * @return a new version of the list
+     */
+    public PersistentLinkedList<T> prepend(T element) {
+        Objects.requireNonNull(element);
+        return new PersistentLinkedList<>(element, this, isEmpty() ? element : last, size + 1);
+    }
+
+    /**
+     * Returns a list without the first element. Operation is performed in constant time O(1)
+     *
+     * @return a list that holds all elements except the first one
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public PersistentLinkedList<T> dropFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return rest;
+    }
+
+    /**
+     * Returns a new list with the element at specific position replaced. Nodes that precede the index are copied, the
+     * rest is shared. In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   a position of element to change
+     * @param element a new element value
+     * @return a new version of the list
+     */
+    public PersistentLinkedList<T> with(int index, T element) {
+        Objects.checkIndex(index, size);
+        Objects.requireNonNull(element);
+        return rebuildPrefix(index, nodeAt(index).rest.prepend(element));
+    }
+
+    /**
+     * Returns a new list with an element inserted at specific position. Nodes that precede the index are copied, the
+     * rest is shared. In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     * @return a new version of the list
+     */
+    public PersistentLinkedList<T> insert(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        Objects.requireNonNull(element);
+        return rebuildPrefix(index, nodeAt(index).prepend(element));
+    }
+
+    /**
+     * Returns a new list without the element at specific position. Nodes that precede the index are copied, the rest
+     * is shared. In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return a new version of the list
+     */
+    public PersistentLinkedList<T> without(int index) {
+        Objects.checkIndex(index, size);
+        return rebuildPrefix(index, nodeAt(index).rest);
+    }
+
+    /**
+     * Prepends first {@code count} elements of this list to the provided suffix, keeping their order.
+     */
+    @SuppressWarnings("unchecked")
+    private PersistentLinkedList<T> rebuildPrefix(int count, PersistentLinkedList<T> suffix) {
+        T[] prefix = (T[]) new Object[count];
+        PersistentLinkedList<T> node = this;
+        for (int i = 0; i < count; i++) {
+            prefix[i] = node.head;
+            node = node.rest;
+        }
+        PersistentLinkedList<T> list = suffix;
+        for (int i = count - 1; i >= 0; i--) {
+            list = list.prepend(prefix[i]);
+        }
+        return list;
+    }
+
+    private PersistentLinkedList<T> nodeAt(int index) {
+        PersistentLinkedList<T> node = this;
+        for (int i = 0; i < index; i++) {
+            node = node.rest;
+        }
+        return node;
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return nodeAt(index).head;
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return head;
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return last;
+    }
+
+    /**
+     * Checks if a specific exists in the list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (PersistentLinkedList<T> node = this; !node.isEmpty(); node = node.rest) {
+            if (node.head.equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private PersistentLinkedList<T> node = PersistentLinkedList.this;
+
+            @Override
+            public boolean hasNext() {
+                return !node.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T element = node.head;
+                node = node.rest;
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Not supported, use {@link PersistentLinkedList#insert(int, Object)} that returns a new version of the list.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported, use {@link PersistentLinkedList#insert(int, Object)} that returns a new version of the list.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported, use {@link PersistentLinkedList#with(int, Object)} that returns a new version of the list.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void set(int index, T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported, use {@link PersistentLinkedList#without(int)} that returns a new version of the list.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public T remove(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported, use {@link PersistentLinkedList#empty()} instead.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,377 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link PersistentVector} is an immutable indexed list that is based on a bit-partitioned trie with the branching
+ * factor of 32. Leaves hold elements, inner nodes hold references to child nodes, and the element by index is found by
+ * taking 5 bits of the index per level. The last (incomplete) leaf is kept aside as a tail, so appending usually
+ * copies only that small array.
+ * <p>
+ * "Modifications" like {@link PersistentVector#append(Object)} or {@link PersistentVector#with(int, Object)} copy only
+ * the path from the root to the changed leaf, i.e. O(log32 n) arrays, and share all other nodes with the previous
+ * version. The previous version stays valid, so a snapshot is just a reference, and readers never take locks.
+ * Mutating methods of {@link List} throw {@link UnsupportedOperationException}.
+ *
+ * @param <T> generic type parameter
+ */
+public final class PersistentVector<T> implements List<T>, Iterable<T> {
+
+    private static final int BITS = 5;
+
+    private static final int WIDTH = 1 << BITS;
+
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+
+    private final int shift;
+
+    private final Object[] root;
+
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns an empty vector. All empty vectors are the same instance.
+     *
+     * @param <T> generic type
+     * @return an empty vector
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * This method creates a vector of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new vector of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> PersistentVector<T> of(T... elements) {
+        PersistentVector<T> vector = empty();
+        for (T element : elements) {
+            vector = vector.append(element);
+        }
+        return vector;
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Returns a new vector with an element added to the end. Operation is performed in O(log32 n) time, and in most
+     * cases it only copies the tail.
+     *
+     * @param element element to add
+     * @return a new version of the vector
+     */
+    public PersistentVector<T> append(T element) {
+        Objects.requireNonNull(element);
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int childIndex = ((size - 1) >>> level) & MASK;
+        Object[] newParent = parent.clone();
+        Object[] nodeToInsert;
+        if (level == BITS) {
+            nodeToInsert = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[childIndex];
+            nodeToInsert = child != null
+                    ? pushTail(level - BITS, child, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+        newParent[childIndex] = nodeToInsert;
+        return newParent;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] path = new Object[WIDTH];
+        path[0] = newPath(level - BITS, node);
+        return path;
+    }
+
+    /**
+     * Returns a new vector with the element at specific position replaced. Operation is performed in O(log32 n) time.
+     * In case provided index in out of the vector bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   a position of element to change
+     * @param element a new element value
+     * @return a new version of the vector
+     */
+    public PersistentVector<T> with(int index, T element) {
+        Objects.checkIndex(index, size);
+        Objects.requireNonNull(element);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, replace(shift, root, index, element), tail);
+    }
+
+    private static Object[] replace(int level, Object[] node, int index, Object element) {
+        Object[] newNode = node.clone();
+        if (level == 0) {
+            newNode[index & MASK] = element;
+        } else {
+            int childIndex = (index >>> level) & MASK;
+            newNode[childIndex] = replace(level - BITS, (Object[]) node[childIndex], index, element);
+        }
+        return newNode;
+    }
+
+    /**
+     * Returns a vector without the last element. Operation is performed in O(log32 n) time.
+     *
+     * @return a new version of the vector
+     * @throws java.util.NoSuchElementException if vector is empty
+     */
+    public PersistentVector<T> dropLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    private Object[] popTail(int level, Object[] node) {
+        int childIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Object[] newChild = popTail(level - BITS, (Object[]) node[childIndex]);
+            if (newChild == null && childIndex == 0) {
+                return null;
+            }
+            Object[] newNode = node.clone();
+            newNode[childIndex] = newChild;
+            return newNode;
+        } else if (childIndex == 0) {
+            return null;
+        } else {
+            Object[] newNode = node.clone();
+            newNode[childIndex] = null;
+            return newNode;
+        }
+    }
+
+    /**
+     * Retrieves an elements by its position index. Operation is performed in O(log32 n) time. In case provided index
+     * in out of the vector bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns the first element of the vector. Operation is performed in O(log32 n) time.
+     *
+     * @return the first element of the vector
+     * @throws java.util.NoSuchElementException if vector is empty
+     */
+    @Override
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * Returns the last element of the vector. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the vector
+     * @throws java.util.NoSuchElementException if vector is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (T) tail[tail.length - 1];
+    }
+
+    /**
+     * Checks if a specific exists in the vector. Elements are scanned leaf by leaf.
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (int leafStart = 0; leafStart < size; leafStart += WIDTH) {
+            Object[] leaf = leafFor(leafStart);
+            int leafSize = Math.min(WIDTH, size - leafStart);
+            for (int i = 0; i < leafSize; i++) {
+                if (leaf[i].equals(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a vector is empty
+     *
+     * @return {@code true} if vector is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the vector
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index;
+
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0) {
+                    leaf = leafFor(index);
+                }
+                return (T) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * Not supported, use {@link PersistentVector#append(Object)} that returns a new version of the vector.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported, the vector can only grow at the end with {@link PersistentVector#append(Object)}.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported, use {@link PersistentVector#with(int, Object)} that returns a new version of the vector.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void set(int index, T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported, the vector can only shrink at the end with {@link PersistentVector#dropLast()}.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public T remove(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Not supported, use {@link PersistentVector#empty()} instead.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,348 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * {@link UnrolledLinkedList} is a list implementation that is based on doubly linked generic nodes, where each node
+ * stores a small array of elements instead of a single one. Elements of a node are kept contiguous, so sequential scans
+ * like {@link UnrolledLinkedList#contains(Object)} touch far fewer nodes than {@link LinkedList}, while inserting in
+ * the middle still shifts at most one node's array.
+ * <p>
+ * When an element is added into a full node, the node is split in halves. When a node becomes less than half full
+ * after removal, it is merged with the next node if their elements fit into a single node.
+ *
+ * @param <T> generic type parameter
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+
+    private static final int DEFAULT_NODE_CAPACITY = 32;
+
+    private final int nodeCapacity;
+
+    private Node<T> head;
+
+    private Node<T> tail;
+
+    private int size;
+
+    private static class Node<T> {
+
+        final Object[] elements;
+
+        int count;
+
+        Node<T> next;
+
+        Node<T> prev;
+
+        private Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+
+        public static <T> Node<T> withCapacity(int capacity) {
+            return new Node<>(capacity);
+        }
+
+        @SuppressWarnings("unchecked")
+        T elementAt(int offset) {
+            return (T) elements[offset];
+        }
+    }
+
+    /**
+     * A node that holds an element by index together with the offset of this element inside the node.
+     */
+    private static class Position<T> {
+
+        final Node<T> node;
+
+        final int offset;
+
+        private Position(Node<T> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} with a default number of elements per node
+     * that is 32.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} with a specific number of elements per node.
+     *
+     * @param nodeCapacity max number of elements stored in a single node
+     * @throws IllegalArgumentException if the specified node capacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException();
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    public static <T> UnrolledLinkedList<T> of(T... elements) {
+        UnrolledLinkedList<T> unrolledLinkedList = new UnrolledLinkedList<>();
+        Stream.of(elements).forEach(unrolledLinkedList::add);
+        return unrolledLinkedList;
+    }
+
+    /**
+     * Adds an element to the end of the list. Operation is performed in constant time O(1)
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(Node.withCapacity(nodeCapacity), tail);
+        }
+        tail.elements[tail.count++] = element;
+        size++;
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        Objects.requireNonNull(element);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        Position<T> position = findPositionByIndex(index);
+        Node<T> node = position.node;
+        int offset = position.offset;
+        if (node.count == nodeCapacity) {
+            Node<T> newNode = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = newNode;
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = element;
+        node.count++;
+        size++;
+    }
+
+    /**
+     * Moves the upper half of the node elements into a new node that is linked right after it.
+     */
+    private Node<T> split(Node<T> node) {
+        Node<T> newNode = Node.withCapacity(nodeCapacity);
+        int half = node.count >> 1;
+        newNode.count = node.count - half;
+        System.arraycopy(node.elements, half, newNode.elements, 0, newNode.count);
+        Arrays.fill(node.elements, half, node.count, null);
+        node.count = half;
+        linkAfter(newNode, node);
+        return newNode;
+    }
+
+    private void linkAfter(Node<T> newNode, Node<T> previousNode) {
+        newNode.prev = previousNode;
+        if (previousNode == null) {
+            newNode.next = head;
+            head = newNode;
+        } else {
+            newNode.next = previousNode.next;
+            previousNode.next = newNode;
+        }
+        if (newNode.next == null) {
+            tail = newNode;
+        } else {
+            newNode.next.prev = newNode;
+        }
+    }
+
+    private void unlink(Node<T> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = node.next = null;
+    }
+
+    private Position<T> findPositionByIndex(int index) {
+        Objects.checkIndex(index, size);
+        if (index < (size >> 1)) {
+            Node<T> node = head;
+            while (index >= node.count) {
+                index -= node.count;
+                node = node.next;
+            }
+            return new Position<>(node, index);
+        } else {
+            Node<T> node = tail;
+            int nodeStartIndex = size - node.count;
+            while (index < nodeStartIndex) {
+                node = node.prev;
+                nodeStartIndex -= node.count;
+            }
+            return new Position<>(node, index - nodeStartIndex);
+        }
+    }
+
+    /**
+     * Changes the value of a list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   a position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        Position<T> position = findPositionByIndex(index);
+        Objects.requireNonNull(element);
+        position.node.elements[position.offset] = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        Position<T> position = findPositionByIndex(index);
+        return position.node.elementAt(position.offset);
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        return head.elementAt(0);
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        if (tail == null) {
+            throw new NoSuchElementException();
+        }
+        return tail.elementAt(tail.count - 1);
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        Position<T> position = findPositionByIndex(index);
+        Node<T> node = position.node;
+        int offset = position.offset;
+        T removedElement = node.elementAt(offset);
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+        size--;
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < (nodeCapacity >> 1)) {
+            mergeWithNext(node);
+        }
+        return removedElement;
+    }
+
+    private void mergeWithNext(Node<T> node) {
+        Node<T> nextNode = node.next;
+        if (nextNode != null && node.count + nextNode.count <= nodeCapacity) {
+            System.arraycopy(nextNode.elements, 0, node.elements, node.count, nextNode.count);
+            node.count += nextNode.count;
+            unlink(nextNode);
+        }
+    }
+
+    /**
+     * Checks if a specific exists in the list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (Node<T> node = head; node != null; node = node.next) {
+            Object[] elements = node.elements;
+            for (int i = 0; i < node.count; i++) {
+                if (elements[i].equals(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        head = tail = null;
+        size = 0;
+    }
+}
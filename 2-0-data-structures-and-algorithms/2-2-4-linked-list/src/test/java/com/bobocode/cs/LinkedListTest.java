@@ -11,6 +11,8 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 
@@ -28,7 +30,12 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOf
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class LinkedListTest {
     private static final Predicate<Field> NODE_FIELD = field ->
-            field.getType().getSimpleName().equals("Node");
+            field.getType().getSimpleName().equals("Node")
+            && !field.getName().contains("prev");
+
+    private static final Predicate<Field> PREV_NODE_FIELD = field ->
+            field.getType().getSimpleName().equals("Node")
+            && field.getName().contains("prev");
 
     private static final Predicate<Field> HEAD_NODE_FIELD = field ->
             field.getType().getSimpleName().equals("Node")
@@ -520,6 +527,223 @@ public class LinkedListTest {
                 .isThrownBy(() -> getInternalElement(0));
     }
 
+    @Test
+    @Order(43)
+    void getFromTheSecondHalfOfList() {
+        addInternalElements(1, 2, 3, 4, 5, 6);
+
+        assertThat(intList.get(4)).isEqualTo(5);
+        assertThat(intList.get(5)).isEqualTo(6);
+    }
+
+    @Test
+    @Order(44)
+    void addByIndexIntoTheSecondHalfOfList() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        intList.add(4, 66);
+
+        assertThat(getInternalElement(3)).isEqualTo(4);
+        assertThat(getInternalElement(4)).isEqualTo(66);
+        assertThat(getInternalElement(5)).isEqualTo(5);
+        assertThat(intList.get(4)).isEqualTo(66);
+        assertThat(intList.get(5)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(45)
+    void removeKeepsBackwardLinks() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        intList.remove(3);
+        intList.remove(intList.size() - 1);
+
+        assertThat(intList.get(2)).isEqualTo(3);
+        assertThat(intList.getLast()).isEqualTo(3);
+        assertThat(intList.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(46)
+    void removeTheOnlyElement() {
+        intList.add(7);
+
+        int deletedElement = intList.remove(0);
+
+        assertThat(deletedElement).isEqualTo(7);
+        assertThat(intList.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    @Order(47)
+    void listIteratorWalksForwardAndBackward() {
+        addInternalElements(1, 2, 3);
+
+        ListIterator<Integer> iterator = intList.listIterator();
+
+        assertThat(iterator.hasPrevious()).isFalse();
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThat(iterator.next()).isEqualTo(3);
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(iterator.previous()).isEqualTo(3);
+        assertThat(iterator.previous()).isEqualTo(2);
+        assertThat(iterator.nextIndex()).isEqualTo(1);
+        assertThat(iterator.previousIndex()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(48)
+    void listIteratorStartsAtIndex() {
+        addInternalElements(1, 2, 3, 4);
+
+        ListIterator<Integer> iterator = intList.listIterator(4);
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(iterator.previous()).isEqualTo(4);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.listIterator(5));
+    }
+
+    @Test
+    @Order(49)
+    void listIteratorAddInsertsBeforeCursor() {
+        addInternalElements(1, 3, 5);
+
+        ListIterator<Integer> iterator = intList.listIterator();
+        while (iterator.hasNext()) {
+            int element = iterator.next();
+            iterator.add(element + 1);
+        }
+
+        assertThat(intList.size()).isEqualTo(6);
+        for (int i = 0; i < 6; i++) {
+            assertThat(getInternalElement(i)).isEqualTo(i + 1);
+        }
+        assertThat(getNodeValue(TAIL_NODE_FIELD)).isEqualTo(6);
+    }
+
+    @Test
+    @Order(50)
+    void listIteratorRemovesAndSetsLastReturnedElement() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        ListIterator<Integer> iterator = intList.listIterator();
+        while (iterator.hasNext()) {
+            int element = iterator.next();
+            if (element % 2 == 0) {
+                iterator.remove();
+            } else {
+                iterator.set(element * 10);
+            }
+        }
+
+        assertThat(intList.size()).isEqualTo(3);
+        assertThat(getInternalElement(0)).isEqualTo(10);
+        assertThat(getInternalElement(1)).isEqualTo(30);
+        assertThat(getInternalElement(2)).isEqualTo(50);
+        assertThat(intList.getLast()).isEqualTo(50);
+    }
+
+    @Test
+    @Order(51)
+    void listIteratorRemoveAfterPrevious() {
+        addInternalElements(1, 2, 3);
+
+        ListIterator<Integer> iterator = intList.listIterator(3);
+        iterator.previous();
+        iterator.remove();
+        iterator.previous();
+        iterator.remove();
+
+        assertThat(intList.size()).isEqualTo(1);
+        assertThat(intList.getLast()).isEqualTo(1);
+        assertThat(iterator.nextIndex()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(52)
+    void listIteratorRemoveTwiceThrowsException() {
+        addInternalElements(1, 2);
+
+        ListIterator<Integer> iterator = intList.listIterator();
+        iterator.next();
+        iterator.remove();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(iterator::remove);
+    }
+
+    @Test
+    @Order(53)
+    void listIteratorIsFailFast() {
+        intList.add(1);
+        intList.add(2);
+
+        ListIterator<Integer> iterator = intList.listIterator();
+        iterator.next();
+        intList.add(3);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(54)
+    void listIteratorNextWhenThereIsNoNextElement() {
+        ListIterator<Integer> iterator = intList.listIterator();
+
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(55)
+    void addReusesNodeOfRemovedElement() {
+        intList = new LinkedList<>(1);
+        intList.add(1);
+        intList.add(2);
+        Object removedNode = getInternalNode(TAIL_NODE_FIELD);
+
+        intList.remove(1);
+        intList.add(0, 3);
+
+        assertThat(getInternalNode(HEAD_NODE_FIELD)).isSameAs(removedNode);
+        assertThat(getInternalElement(0)).isEqualTo(3);
+        assertThat(getInternalElement(1)).isEqualTo(1);
+        assertThat(intList.getLast()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(56)
+    void recyclingListKeepsElements() {
+        intList = new LinkedList<>(3);
+        for (int round = 0; round < 3; round++) {
+            intList.add(1);
+            intList.add(2);
+            intList.add(1, 3);
+            ListIterator<Integer> iterator = intList.listIterator();
+            iterator.next();
+            iterator.add(4);
+
+            assertThat(intList.size()).isEqualTo(4);
+            assertThat(intList.remove(0)).isEqualTo(1);
+            assertThat(intList.remove(0)).isEqualTo(4);
+            assertThat(intList.remove(0)).isEqualTo(3);
+            assertThat(intList.remove(0)).isEqualTo(2);
+        }
+        assertThat(intList.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(57)
+    void negativeMaxFreeNodesIsNotAllowed() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new LinkedList<>(-1));
+    }
+
     @SneakyThrows
     private int getInternalElement(int index) {
 
@@ -548,6 +772,9 @@ public class LinkedListTest {
         for (int element : elements) {
             nodeObject = createNodeObjectWithInternalElement(nodeType, element);
             nodeField.set(previousObject, nodeObject);
+            if (previousObject != intList) {
+                getAccessibleFieldByPredicate(nodeObject, PREV_NODE_FIELD).set(nodeObject, previousObject);
+            }
             nodeField = getAccessibleFieldByPredicate(nodeObject, NODE_FIELD);
             previousObject = nodeObject;
         }
@@ -604,6 +831,11 @@ public class LinkedListTest {
         return field;
     }
 
+    @SneakyThrows
+    private Object getInternalNode(Predicate<Field> predicate) {
+        return getAccessibleFieldByPredicate(intList, predicate).get(intList);
+    }
+
     @SneakyThrows
     private Object getNodeValue(Predicate<Field> predicate) {
         Object field = getAccessibleFieldByPredicate(intList, predicate).get(intList);
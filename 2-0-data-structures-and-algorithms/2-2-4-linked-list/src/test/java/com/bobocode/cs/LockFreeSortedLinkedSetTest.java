@@ -0,0 +1,243 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LockFreeSortedLinkedSetTest {
+
+    private static final int THREADS = 8;
+
+    private LockFreeSortedLinkedSet<Integer> set = new LockFreeSortedLinkedSet<>();
+
+    @Test
+    @Order(1)
+    void addKeepsAscendingOrder() {
+        set.add(5);
+        set.add(1);
+        set.add(3);
+
+        assertThat(traverse()).containsExactly(1, 3, 5);
+        assertThat(set.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(2)
+    void addDuplicate() {
+        assertThat(set.add(4)).isTrue();
+        assertThat(set.add(4)).isFalse();
+
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(3)
+    void addNull() {
+        assertThatNullPointerException().isThrownBy(() -> set.add(null));
+    }
+
+    @Test
+    @Order(4)
+    void remove() {
+        set.add(1);
+        set.add(2);
+        set.add(3);
+
+        assertThat(set.remove(2)).isTrue();
+        assertThat(set.remove(2)).isFalse();
+        assertThat(set.remove(7)).isFalse();
+
+        assertThat(traverse()).containsExactly(1, 3);
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(5)
+    void contains() {
+        set.add(10);
+        set.add(20);
+
+        assertThat(set.contains(10)).isTrue();
+        assertThat(set.contains(15)).isFalse();
+        assertThat(set.contains(30)).isFalse();
+    }
+
+    @Test
+    @Order(6)
+    void isEmpty() {
+        assertThat(set.isEmpty()).isTrue();
+
+        set.add(1);
+        assertThat(set.isEmpty()).isFalse();
+
+        set.remove(1);
+        assertThat(set.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(7)
+    void concurrentAddOfDisjointElements() throws Exception {
+        runConcurrently(threadIndex -> {
+            for (int i = threadIndex; i < 20_000; i += THREADS) {
+                set.add(i);
+            }
+        });
+
+        assertThat(set.size()).isEqualTo(20_000);
+        List<Integer> elements = traverse();
+        for (int i = 0; i < 20_000; i++) {
+            assertThat(elements.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(8)
+    void concurrentAddAndRemoveOfTheSameElements() throws Exception {
+        runConcurrently(threadIndex -> {
+            for (int round = 0; round < 200; round++) {
+                for (int i = 0; i < 50; i++) {
+                    set.add(i);
+                }
+                for (int i = 0; i < 50; i += 2) {
+                    set.remove(i);
+                }
+            }
+        });
+        for (int i = 0; i < 50; i += 2) {
+            set.remove(i);
+        }
+
+        List<Integer> elements = traverse();
+        assertThat(elements.size()).isEqualTo(25);
+        assertThat(set.size()).isEqualTo(25);
+        for (int i = 0; i < 25; i++) {
+            assertThat(elements.get(i)).isEqualTo(2 * i + 1);
+        }
+    }
+
+    @Test
+    @Order(9)
+    void concurrentAddReturnsTrueOnlyOnce() throws Exception {
+        int[] successfulAdds = new int[THREADS];
+        runConcurrently(threadIndex -> {
+            for (int i = 0; i < 5000; i++) {
+                if (set.add(i)) {
+                    successfulAdds[threadIndex]++;
+                }
+            }
+        });
+
+        int total = 0;
+        for (int adds : successfulAdds) {
+            total += adds;
+        }
+        assertThat(total).isEqualTo(5000);
+    }
+
+    @Test
+    @Order(10)
+    void isEmptySkipsMarkedNodesThatAreNotUnlinkedYet() throws Exception {
+        set.add(1);
+        set.add(2);
+
+        markAsRemovedWithoutUnlinking(2);
+        assertThat(set.isEmpty()).isFalse();
+
+        markAsRemovedWithoutUnlinking(1);
+        assertThat(set.size()).isEqualTo(0);
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.contains(1)).isFalse();
+        assertThat(traverse()).isEmpty();
+
+        assertThat(set.add(3)).isTrue();
+        assertThat(set.isEmpty()).isFalse();
+        assertThat(traverse()).containsExactly(3);
+    }
+
+    @Test
+    @Order(11)
+    void isEmptyAgreesWithSizeAfterConcurrentRemoves() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            runConcurrently(threadIndex -> {
+                for (int i = 0; i < 1000; i++) {
+                    set.add(threadIndex);
+                    set.remove(threadIndex);
+                }
+            });
+
+            assertThat(set.size()).isEqualTo(0);
+            assertThat(set.isEmpty()).isTrue();
+            assertThat(traverse()).isEmpty();
+        }
+    }
+
+    private List<Integer> traverse() {
+        List<Integer> elements = new ArrayList<>();
+        set.forEach(elements::add);
+        return elements;
+    }
+
+    /**
+     * Performs the first step of a removal only: marks the node that holds the element and decrements the size, but
+     * leaves the node linked, as if the unlinking CAS had failed.
+     */
+    private void markAsRemovedWithoutUnlinking(int element) throws Exception {
+        Object node = nextOf(getField(set, "head")).getReference();
+        while (!getField(node, "element").equals(element)) {
+            node = nextOf(node).getReference();
+        }
+        AtomicMarkableReference<Object> next = nextOf(node);
+        assertThat(next.attemptMark(next.getReference(), true)).isTrue();
+        ((AtomicInteger) getField(set, "size")).decrementAndGet();
+    }
+
+    @SuppressWarnings("unchecked")
+    private AtomicMarkableReference<Object> nextOf(Object node) throws Exception {
+        return (AtomicMarkableReference<Object>) getField(node, "next");
+    }
+
+    private Object getField(Object object, String name) throws Exception {
+        Field field = object.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(object);
+    }
+
+    private interface ThreadTask {
+        void run(int threadIndex);
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int threadIndex = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(threadIndex);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,138 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PersistentLinkedListTest {
+
+    @Test
+    @Order(1)
+    void emptyListIsShared() {
+        PersistentLinkedList<Integer> list = PersistentLinkedList.empty();
+
+        assertThat(list).isSameAs(PersistentLinkedList.<String>empty());
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(2)
+    void of() {
+        PersistentLinkedList<Integer> list = PersistentLinkedList.of(3, 5, 8);
+
+        assertThat(list).containsExactly(3, 5, 8);
+        assertThat(list.size()).isEqualTo(3);
+        assertThat(list.getFirst()).isEqualTo(3);
+        assertThat(list.getLast()).isEqualTo(8);
+    }
+
+    @Test
+    @Order(3)
+    void prependSharesTheWholeList() {
+        PersistentLinkedList<Integer> list = PersistentLinkedList.of(5, 8);
+
+        PersistentLinkedList<Integer> newList = list.prepend(3);
+
+        assertThat(newList).containsExactly(3, 5, 8);
+        assertThat(newList.dropFirst()).isSameAs(list);
+        assertThat(list).containsExactly(5, 8);
+    }
+
+    @Test
+    @Order(4)
+    void withDoesNotChangeOldVersion() {
+        PersistentLinkedList<Integer> list = PersistentLinkedList.of(1, 2, 3, 4);
+
+        PersistentLinkedList<Integer> newList = list.with(1, 20);
+
+        assertThat(newList).containsExactly(1, 20, 3, 4);
+        assertThat(list).containsExactly(1, 2, 3, 4);
+        assertThat(newList.dropFirst().dropFirst()).isSameAs(list.dropFirst().dropFirst());
+    }
+
+    @Test
+    @Order(5)
+    void insert() {
+        PersistentLinkedList<Integer> list = PersistentLinkedList.of(1, 2, 3);
+
+        assertThat(list.insert(0, 0)).containsExactly(0, 1, 2, 3);
+        assertThat(list.insert(2, 5)).containsExactly(1, 2, 5, 3);
+        assertThat(list.insert(3, 4)).containsExactly(1, 2, 3, 4);
+        assertThat(list.insert(3, 4).getLast()).isEqualTo(4);
+        assertThat(list).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(6)
+    void without() {
+        PersistentLinkedList<Integer> list = PersistentLinkedList.of(1, 2, 3);
+
+        assertThat(list.without(0)).containsExactly(2, 3);
+        assertThat(list.without(2)).containsExactly(1, 2);
+        assertThat(list.without(2).getLast()).isEqualTo(2);
+        assertThat(list).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(7)
+    void positionalOperationsOutOfBounds() {
+        PersistentLinkedList<Integer> list = PersistentLinkedList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.get(2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.with(2, 3));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.insert(3, 3));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.without(-1));
+    }
+
+    @Test
+    @Order(8)
+    void emptyListHasNoFirstAndLastElements() {
+        PersistentLinkedList<Integer> list = PersistentLinkedList.empty();
+
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(list::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(list::getLast);
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(list::dropFirst);
+    }
+
+    @Test
+    @Order(9)
+    void getAndContains() {
+        PersistentLinkedList<Integer> list = PersistentLinkedList.of(45, 6, 3);
+
+        assertThat(list.get(1)).isEqualTo(6);
+        assertThat(list.contains(3)).isTrue();
+        assertThat(list.contains(54)).isFalse();
+    }
+
+    @Test
+    @Order(10)
+    void mutatingMethodsAreNotSupported() {
+        PersistentLinkedList<Integer> list = PersistentLinkedList.of(1);
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> list.add(2));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> list.add(0, 2));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> list.set(0, 2));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> list.remove(0));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(list::clear);
+    }
+}
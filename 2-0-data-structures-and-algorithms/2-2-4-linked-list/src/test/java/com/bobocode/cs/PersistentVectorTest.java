@@ -0,0 +1,159 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PersistentVectorTest {
+
+    @Test
+    @Order(1)
+    void of() {
+        PersistentVector<Integer> vector = PersistentVector.of(3, 5, 8);
+
+        assertThat(vector).containsExactly(3, 5, 8);
+        assertThat(vector.size()).isEqualTo(3);
+        assertThat(vector.getFirst()).isEqualTo(3);
+        assertThat(vector.getLast()).isEqualTo(8);
+    }
+
+    @Test
+    @Order(2)
+    void appendDoesNotChangeOldVersion() {
+        PersistentVector<Integer> vector = PersistentVector.of(1, 2);
+
+        PersistentVector<Integer> newVector = vector.append(3);
+
+        assertThat(newVector).containsExactly(1, 2, 3);
+        assertThat(vector).containsExactly(1, 2);
+    }
+
+    @Test
+    @Order(3)
+    void appendAndGetAcrossSeveralTreeLevels() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 40_000; i++) {
+            vector = vector.append(i);
+        }
+
+        assertThat(vector.size()).isEqualTo(40_000);
+        for (int i = 0; i < 40_000; i++) {
+            assertThat(vector.get(i)).isEqualTo(i);
+        }
+        assertThat(vector.getLast()).isEqualTo(39_999);
+    }
+
+    @Test
+    @Order(4)
+    void withDoesNotChangeOldVersion() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 2000; i++) {
+            vector = vector.append(i);
+        }
+
+        PersistentVector<Integer> newVector = vector.with(10, -10).with(1999, -1999);
+
+        assertThat(newVector.get(10)).isEqualTo(-10);
+        assertThat(newVector.get(1999)).isEqualTo(-1999);
+        assertThat(newVector.get(11)).isEqualTo(11);
+        assertThat(vector.get(10)).isEqualTo(10);
+        assertThat(vector.get(1999)).isEqualTo(1999);
+    }
+
+    @Test
+    @Order(5)
+    void dropLastAcrossSeveralTreeLevels() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 1100; i++) {
+            vector = vector.append(i);
+        }
+        PersistentVector<Integer> snapshot = vector;
+
+        for (int i = 1099; i >= 0; i--) {
+            assertThat(vector.getLast()).isEqualTo(i);
+            assertThat(vector.get(i / 2)).isEqualTo(i / 2);
+            vector = vector.dropLast();
+            assertThat(vector.size()).isEqualTo(i);
+        }
+
+        assertThat(vector).isSameAs(PersistentVector.empty());
+        assertThat(snapshot.size()).isEqualTo(1100);
+        assertThat(snapshot.get(1099)).isEqualTo(1099);
+    }
+
+    @Test
+    @Order(6)
+    void appendAfterDropLast() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 65; i++) {
+            vector = vector.append(i);
+        }
+
+        vector = vector.dropLast().dropLast().append(100).append(101);
+
+        assertThat(vector.size()).isEqualTo(65);
+        assertThat(vector.get(62)).isEqualTo(62);
+        assertThat(vector.get(63)).isEqualTo(100);
+        assertThat(vector.get(64)).isEqualTo(101);
+    }
+
+    @Test
+    @Order(7)
+    void positionalOperationsOutOfBounds() {
+        PersistentVector<Integer> vector = PersistentVector.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> vector.get(2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> vector.with(-1, 3));
+    }
+
+    @Test
+    @Order(8)
+    void emptyVectorHasNoElements() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+
+        assertThat(vector.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(vector::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(vector::getLast);
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(vector::dropLast);
+    }
+
+    @Test
+    @Order(9)
+    void contains() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 100; i++) {
+            vector = vector.append(i * 2);
+        }
+
+        assertThat(vector.contains(198)).isTrue();
+        assertThat(vector.contains(40)).isTrue();
+        assertThat(vector.contains(41)).isFalse();
+    }
+
+    @Test
+    @Order(10)
+    void mutatingMethodsAreNotSupported() {
+        PersistentVector<Integer> vector = PersistentVector.of(1);
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> vector.add(2));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> vector.set(0, 2));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> vector.remove(0));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(vector::clear);
+    }
+}
@@ -0,0 +1,216 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class UnrolledLinkedListTest {
+
+    private UnrolledLinkedList<Integer> intList = new UnrolledLinkedList<>(4);
+
+    @Test
+    @Order(1)
+    void nodeCapacityLessThanTwoIsNotAllowed() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new UnrolledLinkedList<>(1));
+    }
+
+    @Test
+    @Order(2)
+    void addAcrossSeveralNodes() {
+        for (int i = 0; i < 10; i++) {
+            intList.add(i);
+        }
+
+        assertThat(intList.size()).isEqualTo(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(intList.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(3)
+    void addNullIsNotAllowed() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> intList.add(null));
+    }
+
+    @Test
+    @Order(4)
+    void of() {
+        UnrolledLinkedList<Integer> list = UnrolledLinkedList.of(14, 46, 8);
+
+        assertThat(list.size()).isEqualTo(3);
+        assertThat(list.get(0)).isEqualTo(14);
+        assertThat(list.get(2)).isEqualTo(8);
+    }
+
+    @Test
+    @Order(5)
+    void addByIndexIntoFullNodeSplitsIt() {
+        fill(1, 2, 3, 4);
+
+        intList.add(1, 10);
+        intList.add(4, 20);
+
+        assertElements(1, 10, 2, 3, 20, 4);
+    }
+
+    @Test
+    @Order(6)
+    void addByIndexToHeadAndToTheEnd() {
+        fill(1, 2, 3, 4, 5);
+
+        intList.add(0, 0);
+        intList.add(intList.size(), 6);
+
+        assertElements(0, 1, 2, 3, 4, 5, 6);
+        assertThat(intList.getFirst()).isEqualTo(0);
+        assertThat(intList.getLast()).isEqualTo(6);
+    }
+
+    @Test
+    @Order(7)
+    void addByIndexOutOfBounds() {
+        fill(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(3, 4));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(-1, 4));
+    }
+
+    @Test
+    @Order(8)
+    void set() {
+        fill(1, 2, 3, 4, 5, 6, 7);
+
+        intList.set(1, 20);
+        intList.set(5, 60);
+
+        assertElements(1, 20, 3, 4, 5, 60, 7);
+    }
+
+    @Test
+    @Order(9)
+    void getWhenIndexIsEqualToSize() {
+        fill(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(3));
+    }
+
+    @Test
+    @Order(10)
+    void getFirstAndGetLastWhenListIsEmpty() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    @Order(11)
+    void removeMergesNodes() {
+        fill(1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        assertThat(intList.remove(1)).isEqualTo(2);
+        assertThat(intList.remove(1)).isEqualTo(3);
+        assertThat(intList.remove(4)).isEqualTo(7);
+
+        assertElements(1, 4, 5, 6, 8, 9);
+    }
+
+    @Test
+    @Order(12)
+    void removeLastAndFirst() {
+        fill(1, 2, 3, 4, 5);
+
+        assertThat(intList.remove(4)).isEqualTo(5);
+        assertThat(intList.remove(0)).isEqualTo(1);
+
+        assertElements(2, 3, 4);
+        assertThat(intList.getLast()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(13)
+    void removeAllElements() {
+        fill(1, 2, 3, 4, 5);
+
+        while (!intList.isEmpty()) {
+            intList.remove(intList.size() - 1);
+        }
+        intList.add(42);
+
+        assertElements(42);
+    }
+
+    @Test
+    @Order(14)
+    void removeWhenListIsEmpty() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.remove(0));
+    }
+
+    @Test
+    @Order(15)
+    void contains() {
+        fill(45, 6, 3, 6, 18, 27);
+
+        assertThat(intList.contains(27)).isTrue();
+        assertThat(intList.contains(54)).isFalse();
+    }
+
+    @Test
+    @Order(16)
+    void clear() {
+        fill(4, 5, 6, 7, 8);
+
+        intList.clear();
+
+        assertThat(intList.size()).isEqualTo(0);
+        assertThat(intList.isEmpty()).isTrue();
+        assertThat(intList.contains(4)).isFalse();
+    }
+
+    @Test
+    @Order(17)
+    void behavesLikeLinkedList() {
+        LinkedList<Integer> linkedList = new LinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            int index = (i * 31) % (linkedList.size() + 1);
+            linkedList.add(index, i);
+            intList.add(index, i);
+            if (i % 3 == 0) {
+                int removeIndex = (i * 17) % linkedList.size();
+                assertThat(intList.remove(removeIndex)).isEqualTo(linkedList.remove(removeIndex));
+            }
+        }
+
+        assertThat(intList.size()).isEqualTo(linkedList.size());
+        for (int i = 0; i < linkedList.size(); i++) {
+            assertThat(intList.get(i)).isEqualTo(linkedList.get(i));
+        }
+    }
+
+    private void fill(int... elements) {
+        for (int element : elements) {
+            intList.add(element);
+        }
+    }
+
+    private void assertElements(int... elements) {
+        assertThat(intList.size()).isEqualTo(elements.length);
+        for (int i = 0; i < elements.length; i++) {
+            assertThat(intList.get(i)).isEqualTo(elements[i]);
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.bobocode.cs;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * {@link AvlBinarySearchTree} is a self-balancing implementation of a {@link BinarySearchTree} (AVL tree). Each node
+ * stores the height of its subtree, and heights of the left and right subtrees of any node differ at most by one. When
+ * an insertion breaks this rule, the tree restores it with one or two rotations on the way back to the root.
+ * <p>
+ * So whatever the order of insertions is (e.g. sorted elements, that turn {@link RecursiveBinarySearchTree} into a
+ * linked list), the depth of the tree never exceeds {@code 1.44 * log2(n + 2)}, and {@link AvlBinarySearchTree#insert}
+ * and {@link AvlBinarySearchTree#contains} are performed in O(log n) time. {@link AvlBinarySearchTree#depth()} is
+ * performed in constant time O(1), because the height of the root is always known.
+ * <p>
+ * Each node also stores the number of elements in its subtree, so order-statistic queries
+ * ({@link AvlBinarySearchTree#select}, {@link AvlBinarySearchTree#rank}, {@link AvlBinarySearchTree#countInRange}) go
+ * down a single path and are performed in O(log n) time as well. {@link AvlBinarySearchTree#range} skips subtrees that
+ * are outside of the bounds, so it takes O(log n + k) time, where k is the number of elements in the range.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class AvlBinarySearchTree<T extends Comparable<T>> implements OrderStatisticTree<T> {
+
+    private static class Node<T> {
+        T element;
+        Node<T> left;
+        Node<T> right;
+        int height = 1;
+        int size = 1;
+
+        private Node(T element) {
+            this.element = element;
+        }
+
+        public static <T> Node<T> valueOf(T element) {
+            return new Node<>(element);
+        }
+    }
+
+    private static final int PARALLEL_BUILD_THRESHOLD = 1 << 13;
+
+    private Node<T> root;
+
+    private int size = 0;
+
+    /**
+     * Creates a perfectly balanced tree of provided elements in any order. Elements are sorted, and then the tree is
+     * built in linear time O(n) without any rotations. Duplicates are ignored.
+     *
+     * @param elements elements to add
+     * @param <T>      a type of elements
+     * @return a new tree
+     */
+    @SafeVarargs
+    public static <T extends Comparable<T>> AvlBinarySearchTree<T> of(T... elements) {
+        T[] sorted = SortedElements.sortedDistinct(elements.length, i -> elements[i], false);
+        return fromSortedDistinct(sorted, false);
+    }
+
+    /**
+     * Creates a perfectly balanced tree of elements that are already sorted in ascending order, in linear time O(n).
+     * Duplicates are ignored.
+     *
+     * @param sortedElements elements in ascending order
+     * @param <T>            a type of elements
+     * @return a new tree
+     * @throws IllegalArgumentException if the elements are not sorted
+     */
+    @SafeVarargs
+    public static <T extends Comparable<T>> AvlBinarySearchTree<T> ofSorted(T... sortedElements) {
+        T[] sorted = SortedElements.requireSortedDistinct(sortedElements.length, i -> sortedElements[i]);
+        return fromSortedDistinct(sorted, false);
+    }
+
+    /**
+     * Creates a perfectly balanced tree like {@link AvlBinarySearchTree#of}, but sorts the elements in parallel and
+     * builds large subtrees in parallel in the common {@link ForkJoinPool}.
+     *
+     * @param elements elements to add
+     * @param <T>      a type of elements
+     * @return a new tree
+     */
+    @SafeVarargs
+    public static <T extends Comparable<T>> AvlBinarySearchTree<T> ofParallel(T... elements) {
+        T[] sorted = SortedElements.sortedDistinct(elements.length, i -> elements[i], true);
+        return fromSortedDistinct(sorted, true);
+    }
+
+    private static <T extends Comparable<T>> AvlBinarySearchTree<T> fromSortedDistinct(T[] sorted, boolean parallel) {
+        AvlBinarySearchTree<T> avlBinarySearchTree = new AvlBinarySearchTree<>();
+        avlBinarySearchTree.root = parallel
+                ? ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> buildParallel(sorted, 0, sorted.length)))
+                : build(sorted, 0, sorted.length);
+        avlBinarySearchTree.size = sorted.length;
+        return avlBinarySearchTree;
+    }
+
+    /**
+     * Builds a balanced subtree of elements in range [from, to). Sizes of the two halves differ at most by one, so
+     * the subtree satisfies the AVL rule.
+     */
+    private static <T> Node<T> build(T[] sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<T> node = Node.valueOf(sorted[middle]);
+        node.left = build(sorted, from, middle);
+        node.right = build(sorted, middle + 1, to);
+        node.height = 1 + (node.left != null ? node.left.height : 0);
+        node.size = to - from;
+        return node;
+    }
+
+    private static <T> Node<T> buildParallel(T[] sorted, int from, int to) {
+        if (to - from <= PARALLEL_BUILD_THRESHOLD) {
+            return build(sorted, from, to);
+        }
+        int middle = (from + to) >>> 1;
+        Node<T> node = Node.valueOf(sorted[middle]);
+        ForkJoinTask<Node<T>> leftTask = ForkJoinTask.adapt(() -> buildParallel(sorted, from, middle)).fork();
+        node.right = buildParallel(sorted, middle + 1, to);
+        node.left = leftTask.join();
+        node.height = 1 + node.left.height;
+        node.size = to - from;
+        return node;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        int sizeBefore = size;
+        root = insert(root, element);
+        return size > sizeBefore;
+    }
+
+    private Node<T> insert(Node<T> node, T element) {
+        if (node == null) {
+            size++;
+            return Node.valueOf(element);
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            node.left = insert(node.left, element);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private int height(Node<T> node) {
+        return node != null ? node.height : 0;
+    }
+
+    private int sizeOf(Node<T> node) {
+        return node != null ? node.size : 0;
+    }
+
+    /**
+     * Recalculates the height and the size of a node from its children.
+     */
+    private void update(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.size = 1 + sizeOf(node.left) + sizeOf(node.right);
+    }
+
+    private int balanceFactor(Node<T> node) {
+        return height(node.left) - height(node.right);
+    }
+
+    /**
+     * Updates the height and the size of a node and restores the balance of its subtree, if it is broken.
+     *
+     * @return a new root of the subtree
+     */
+    private Node<T> rebalance(Node<T> node) {
+        update(node);
+        int balance = balanceFactor(node);
+        if (balance > 1) {
+            if (balanceFactor(node.left) < 0) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (balanceFactor(node.right) > 0) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.element);
+            if (comparison == 0) {
+                return true;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    @Override
+    public T select(int k) {
+        Objects.checkIndex(k, size);
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (k < leftSize) {
+                node = node.left;
+            } else if (k > leftSize) {
+                k -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    @Override
+    public int rank(T element) {
+        Objects.requireNonNull(element);
+        return rank(element, false);
+    }
+
+    /**
+     * Counts elements that are less than the provided one (or equal to it, if inclusive) going down a single path.
+     */
+    private int rank(T element, boolean inclusive) {
+        int rank = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.element);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                rank += sizeOf(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + sizeOf(node.left) + (inclusive ? 1 : 0);
+            }
+        }
+        return rank;
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        T floor = null;
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.element);
+            if (comparison == 0) {
+                return node.element;
+            } else if (comparison < 0) {
+                node = node.left;
+            } else {
+                floor = node.element;
+                node = node.right;
+            }
+        }
+        return floor;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        T ceiling = null;
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.element);
+            if (comparison == 0) {
+                return node.element;
+            } else if (comparison > 0) {
+                node = node.right;
+            } else {
+                ceiling = node.element;
+                node = node.left;
+            }
+        }
+        return ceiling;
+    }
+
+    @Override
+    public int countInRange(T from, T to) {
+        checkRange(from, to);
+        return rank(to, true) - rank(from, false);
+    }
+
+    /**
+     * Traverses the range with an explicit stack like an in-order traversal, but does not go into the left subtree of
+     * a node that is less than the lower bound and stops at the first node that is greater than the upper bound.
+     */
+    @Override
+    public void range(T from, T to, Consumer<T> consumer) {
+        checkRange(from, to);
+        Deque<Node<T>> path = new ArrayDeque<>();
+        Node<T> node = root;
+        while (node != null || !path.isEmpty()) {
+            while (node != null) {
+                if (node.element.compareTo(from) < 0) {
+                    node = node.right;
+                } else {
+                    path.push(node);
+                    node = node.left;
+                }
+            }
+            if (path.isEmpty()) {
+                return;
+            }
+            node = path.pop();
+            if (node.element.compareTo(to) > 0) {
+                return;
+            }
+            consumer.accept(node.element);
+            node = node.right;
+        }
+    }
+
+    private void checkRange(T from, T to) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("From element is greater than to element");
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int depth() {
+        return root != null ? root.height - 1 : 0;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        inOrderTraversal(root, consumer);
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+
+    /**
+     * Creates a spliterator that splits the tree at subtree roots, so a parallel stream processes subtrees in parallel
+     * and keeps the encounter order.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new TreeSpliterator<Node<T>, T>(root, size, node -> node.left, node -> node.right, node -> node.element);
+    }
+}
@@ -0,0 +1,231 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link BPlusTree} is an implementation of a {@link BinarySearchTree} that stores many elements per node (B+-tree).
+ * Every node holds up to {@code fanout - 1} sorted elements in an array, and an internal node holds up to
+ * {@code fanout} references to child nodes. All elements are stored in leaves, while internal nodes only store
+ * separators that guide the search. Leaves are linked to each other in element's natural order.
+ * <p>
+ * A binary tree follows a reference (and usually takes a cache miss) on every level. A B+-tree with a fanout of 64 has
+ * about six times fewer levels, and the search within a node is a binary search over a contiguous array. So
+ * {@link BPlusTree#insert} and {@link BPlusTree#contains} are performed in O(log n) time, but with far fewer memory
+ * accesses, and {@link BPlusTree#inOrderTraversal} just walks the linked leaves.
+ * <p>
+ * Full nodes are split on the way down, so an insertion never goes back up the tree. All leaves are always on the
+ * same level, and {@link BPlusTree#depth()} is the number of levels below the root.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class BPlusTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    private static final int DEFAULT_FANOUT = 64;
+
+    private abstract static class Node {
+        final Object[] keys;
+        int count;
+
+        Node(int maxKeys) {
+            this.keys = new Object[maxKeys];
+        }
+
+        int search(Object key) {
+            return Arrays.binarySearch(keys, 0, count, key);
+        }
+    }
+
+    private static class Leaf extends Node {
+        Leaf next;
+
+        Leaf(int maxKeys) {
+            super(maxKeys);
+        }
+    }
+
+    private static class Internal extends Node {
+        final Node[] children;
+
+        Internal(int maxKeys) {
+            super(maxKeys);
+            this.children = new Node[maxKeys + 1];
+        }
+
+        /**
+         * A child at index i holds elements that are not less than keys[i - 1] and less than keys[i].
+         */
+        int childIndex(Object key) {
+            int index = search(key);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+    }
+
+    private final int maxKeys;
+
+    private Node root;
+
+    private Leaf firstLeaf;
+
+    private int levels;
+
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link BPlusTree} with a default fanout that is 64.
+     */
+    public BPlusTree() {
+        this(DEFAULT_FANOUT);
+    }
+
+    /**
+     * This constructor creates an instance of {@link BPlusTree} with a specific fanout, that is a maximum number of
+     * children of an internal node.
+     *
+     * @param fanout maximum number of children of a node
+     * @throws IllegalArgumentException if the specified fanout is less than 4
+     */
+    public BPlusTree(int fanout) {
+        if (fanout < 4) {
+            throw new IllegalArgumentException();
+        }
+        this.maxKeys = fanout - 1;
+    }
+
+    /**
+     * Creates a tree of provided elements with a default fanout.
+     *
+     * @param elements elements to add
+     * @param <T>      a type of elements
+     * @return a new tree
+     */
+    @SafeVarargs
+    public static <T extends Comparable<T>> BPlusTree<T> of(T... elements) {
+        BPlusTree<T> bPlusTree = new BPlusTree<>();
+        for (T element : elements) {
+            bPlusTree.insert(element);
+        }
+        return bPlusTree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        if (root == null) {
+            firstLeaf = new Leaf(maxKeys);
+            root = firstLeaf;
+            levels = 1;
+        } else if (root.count == maxKeys) {
+            Internal newRoot = new Internal(maxKeys);
+            newRoot.children[0] = root;
+            splitChild(newRoot, 0);
+            root = newRoot;
+            levels++;
+        }
+        Node node = root;
+        while (node instanceof Internal) {
+            Internal internal = (Internal) node;
+            int index = internal.childIndex(element);
+            if (internal.children[index].count == maxKeys) {
+                splitChild(internal, index);
+                if (element.compareTo(key(internal, index)) >= 0) {
+                    index++;
+                }
+            }
+            node = internal.children[index];
+        }
+        int index = node.search(element);
+        if (index >= 0) {
+            return false;
+        }
+        insertAt(node.keys, node.count, -index - 1, element);
+        node.count++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Splits a full child of a node that is not full, and inserts the separator of the two halves into the node.
+     */
+    private void splitChild(Internal parent, int index) {
+        Node child = parent.children[index];
+        int middle = child.count >>> 1;
+        Object separator;
+        Node sibling;
+        if (child instanceof Leaf) {
+            Leaf leaf = (Leaf) child;
+            Leaf newLeaf = new Leaf(maxKeys);
+            newLeaf.count = leaf.count - middle;
+            System.arraycopy(leaf.keys, middle, newLeaf.keys, 0, newLeaf.count);
+            newLeaf.next = leaf.next;
+            leaf.next = newLeaf;
+            separator = newLeaf.keys[0];
+            sibling = newLeaf;
+        } else {
+            Internal internal = (Internal) child;
+            Internal newInternal = new Internal(maxKeys);
+            newInternal.count = internal.count - middle - 1;
+            System.arraycopy(internal.keys, middle + 1, newInternal.keys, 0, newInternal.count);
+            System.arraycopy(internal.children, middle + 1, newInternal.children, 0, newInternal.count + 1);
+            Arrays.fill(internal.children, middle + 1, internal.count + 1, null);
+            separator = internal.keys[middle];
+            sibling = newInternal;
+        }
+        Arrays.fill(child.keys, middle, child.count, null);
+        child.count = middle;
+        insertAt(parent.keys, parent.count, index, separator);
+        insertAt(parent.children, parent.count + 1, index + 1, sibling);
+        parent.count++;
+    }
+
+    private static void insertAt(Object[] array, int length, int index, Object value) {
+        System.arraycopy(array, index, array, index + 1, length - index);
+        array[index] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T key(Node node, int index) {
+        return (T) node.keys[index];
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node node = root;
+        if (node == null) {
+            return false;
+        }
+        while (node instanceof Internal) {
+            Internal internal = (Internal) node;
+            node = internal.children[internal.childIndex(element)];
+        }
+        return node.search(element) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * All leaves are on the same level, so the depth is the number of levels below the root, and it is returned in
+     * constant time O(1).
+     */
+    @Override
+    public int depth() {
+        return levels > 0 ? levels - 1 : 0;
+    }
+
+    /**
+     * Walks the linked leaves starting from the first one without visiting any internal node.
+     */
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        for (Leaf leaf = firstLeaf; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                consumer.accept(key(leaf, i));
+            }
+        }
+    }
+}
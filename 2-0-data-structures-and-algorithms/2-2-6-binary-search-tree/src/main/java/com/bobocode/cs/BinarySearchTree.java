@@ -1,6 +1,12 @@
 package com.bobocode.cs;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface BinarySearchTree<T extends Comparable<T>> {
     /**
@@ -29,4 +35,29 @@ public interface BinarySearchTree<T extends Comparable<T>> {
      * @param consumer accepts ref. to node during traversing
      */
     void inOrderTraversal(Consumer<T> consumer);
+
+    /**
+     * creates a spliterator over elements in element's natural order; by default the elements are copied to an array
+     * @return an ORDERED, SORTED, DISTINCT and NONNULL spliterator
+     */
+    default Spliterator<T> spliterator() {
+        List<T> elements = new ArrayList<>(size());
+        inOrderTraversal(elements::add);
+        return Spliterators.spliterator(elements.toArray(),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * @return a sequential stream of elements in element's natural order
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return a parallel stream of elements that keeps element's natural order as encounter order
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
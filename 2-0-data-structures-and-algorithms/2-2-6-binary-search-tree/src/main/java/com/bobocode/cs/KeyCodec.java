@@ -0,0 +1,71 @@
+package com.bobocode.cs;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link KeyCodec} converts elements of a {@link MappedBPlusTree} to bytes and back. Every element takes exactly
+ * {@link KeyCodec#keySize()} bytes in a page, so a page can be searched without any length prefixes.
+ *
+ * @param <T> a type of elements
+ */
+public interface KeyCodec<T> {
+
+    /**
+     * @return number of bytes that every encoded element takes
+     */
+    int keySize();
+
+    /**
+     * writes the element to the buffer starting at the absolute offset, without changing the buffer position
+     */
+    void encode(T element, ByteBuffer buffer, int offset);
+
+    /**
+     * reads an element from the buffer starting at the absolute offset, without changing the buffer position
+     */
+    T decode(ByteBuffer buffer, int offset);
+
+    /**
+     * @return a codec that stores an {@link Integer} in 4 bytes
+     */
+    static KeyCodec<Integer> integers() {
+        return new KeyCodec<>() {
+            @Override
+            public int keySize() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void encode(Integer element, ByteBuffer buffer, int offset) {
+                buffer.putInt(offset, element);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+        };
+    }
+
+    /**
+     * @return a codec that stores a {@link Long} in 8 bytes
+     */
+    static KeyCodec<Long> longs() {
+        return new KeyCodec<>() {
+            @Override
+            public int keySize() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void encode(Long element, ByteBuffer buffer, int offset) {
+                buffer.putLong(offset, element);
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+        };
+    }
+}
@@ -0,0 +1,185 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link LockFreeSkipList} is a thread-safe sorted set that implements {@link BinarySearchTree} with a skip list and
+ * does not use locks. Every node is linked into a sorted list on level 0 and, with probability 1/2 per level, into
+ * sparser lists on the levels above. A search starts on the highest level and goes down a level whenever the next node
+ * is not less than the element, so {@link LockFreeSkipList#insert} and {@link LockFreeSkipList#contains} take
+ * O(log n) expected time.
+ * <p>
+ * An insertion links a new node with CAS, bottom-up. Once the node is linked on level 0, the element is in the set;
+ * linking on the upper levels only speeds up later searches. If a CAS fails because another thread has linked a node
+ * in the same place, the thread searches for the predecessors again and retries. Elements are never removed, so a
+ * linked node never has to be marked or unlinked.
+ * <p>
+ * {@link LockFreeSkipList#inOrderTraversal} walks level 0 without any locks. It is weakly consistent: it returns all
+ * elements that were inserted before it started, in order, and may or may not return elements that are inserted
+ * concurrently.
+ *
+ * @param <T> a type of elements that are stored in the set
+ */
+public class LockFreeSkipList<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    private static final int MAX_LEVEL = 32;
+
+    private static final VarHandle NEXT = MethodHandles.arrayElementVarHandle(Node[].class);
+
+    private static class Node<T> {
+        final T element;
+        final Node<T>[] next;
+
+        @SuppressWarnings("unchecked")
+        private Node(T element, int topLevel) {
+            this.element = element;
+            this.next = (Node<T>[]) new Node<?>[topLevel + 1];
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<T> next(int level) {
+            return (Node<T>) NEXT.getAcquire(next, level);
+        }
+
+        void setNext(int level, Node<T> node) {
+            NEXT.setRelease(next, level, node);
+        }
+
+        boolean casNext(int level, Node<T> expected, Node<T> node) {
+            return NEXT.compareAndSet(next, level, expected, node);
+        }
+    }
+
+    private final Node<T> head = new Node<>(null, MAX_LEVEL - 1);
+
+    private final AtomicInteger highestLevel = new AtomicInteger();
+
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Creates a set of provided elements.
+     *
+     * @param elements elements to add
+     * @param <T>      a type of elements
+     * @return a new set
+     */
+    @SafeVarargs
+    public static <T extends Comparable<T>> LockFreeSkipList<T> of(T... elements) {
+        LockFreeSkipList<T> skipList = new LockFreeSkipList<>();
+        for (T element : elements) {
+            skipList.insert(element);
+        }
+        return skipList;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        int topLevel = randomLevel();
+        @SuppressWarnings("unchecked")
+        Node<T>[] predecessors = (Node<T>[]) new Node<?>[topLevel + 1];
+        @SuppressWarnings("unchecked")
+        Node<T>[] successors = (Node<T>[]) new Node<?>[topLevel + 1];
+        Node<T> newNode = new Node<>(element, topLevel);
+        do {
+            if (find(element, predecessors, successors)) {
+                return false;
+            }
+            for (int level = 0; level <= topLevel; level++) {
+                newNode.setNext(level, successors[level]);
+            }
+        } while (!predecessors[0].casNext(0, successors[0], newNode));
+        count.increment();
+        for (int level = 1; level <= topLevel; level++) {
+            while (!predecessors[level].casNext(level, successors[level], newNode)) {
+                find(element, predecessors, successors);
+                newNode.setNext(level, successors[level]);
+            }
+        }
+        highestLevel.accumulateAndGet(topLevel, Math::max);
+        return true;
+    }
+
+    /**
+     * Picks a level with probability 1/2 for level 0, 1/4 for level 1, and so on.
+     */
+    private static int randomLevel() {
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1)));
+    }
+
+    /**
+     * Finds the last node that is less than the element (a predecessor) and the node next to it (a successor) on
+     * every level up to the length of the provided arrays.
+     *
+     * @return {@code true} if the successor on level 0 holds the element
+     */
+    private boolean find(T element, Node<T>[] predecessors, Node<T>[] successors) {
+        Node<T> predecessor = head;
+        for (int level = Math.max(highestLevel.get(), predecessors.length - 1); level >= 0; level--) {
+            Node<T> current = predecessor.next(level);
+            while (current != null && current.element.compareTo(element) < 0) {
+                predecessor = current;
+                current = predecessor.next(level);
+            }
+            if (level < predecessors.length) {
+                predecessors[level] = predecessor;
+                successors[level] = current;
+            }
+        }
+        return successors[0] != null && successors[0].element.compareTo(element) == 0;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> predecessor = head;
+        for (int level = highestLevel.get(); level >= 0; level--) {
+            Node<T> current = predecessor.next(level);
+            while (current != null) {
+                int comparison = current.element.compareTo(element);
+                if (comparison == 0) {
+                    return true;
+                } else if (comparison > 0) {
+                    break;
+                }
+                predecessor = current;
+                current = predecessor.next(level);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of elements. If elements are inserted concurrently, the result may not include some of them.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return count.intValue();
+    }
+
+    /**
+     * Returns the highest level that any node is linked on, that is the number of lists above level 0 that a search
+     * goes through.
+     *
+     * @return the highest level in use; 0 - if the set is empty or all nodes are on level 0
+     */
+    @Override
+    public int depth() {
+        return highestLevel.get();
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        for (Node<T> node = head.next(0); node != null; node = node.next(0)) {
+            consumer.accept(node.element);
+        }
+    }
+}
@@ -0,0 +1,497 @@
+package com.bobocode.cs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * {@link MappedBPlusTree} is a persistent implementation of a {@link BinarySearchTree}. It is a B+-tree whose nodes
+ * are fixed-size pages of a file that is mapped into memory with {@link FileChannel#map}. Elements are stored in
+ * pages in a binary form that is defined by a {@link KeyCodec}, so the tree does not need to fit in the heap. Decoded
+ * pages are kept in a {@link PageCache} with clock eviction.
+ * <p>
+ * Pages are updated with copy-on-write. A page that belongs to the last committed version of the tree is never
+ * modified: an insertion copies the pages on its path to new pages at the end of the file. Only the pages that were
+ * created after the last commit are modified in place. {@link MappedBPlusTree#commit()} flushes the pages to disk
+ * first, and then writes a new header with the new root. There are two header slots, which are written in turns and
+ * protected by a checksum, so if a crash happens at any moment, the file still holds a consistent tree of the last
+ * commit.
+ * <p>
+ * Opening a file only reads its header, so it takes constant time. A {@link MappedBPlusTree#contains} on a cold file
+ * reads one page per level, that is O(log_B n) page faults, where B is the number of elements in a page.
+ * <p>
+ * Leaves are not linked to each other, because copy-on-write of a leaf would then require a copy of its left
+ * neighbour, and so on. Pages that are replaced by copies are not reused, so the file only grows.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class MappedBPlusTree<T extends Comparable<T>> implements BinarySearchTree<T>, Closeable {
+
+    static final int PAGE_SIZE = 4096;
+
+    private static final int SEGMENT_PAGES = 256;
+
+    private static final int DEFAULT_CACHED_PAGES = 1024;
+
+    private static final int MAGIC = 0xB7EE_0001;
+
+    private static final int NO_PAGE = -1;
+
+    private static final int HEADER_SLOTS = 2;
+
+    private static final int HEADER_CHECKSUM_OFFSET = 32;
+
+    private static final int PAGE_KEYS_OFFSET = 8;
+
+    private static class Page {
+        final int id;
+        final boolean leaf;
+        int count;
+        final Object[] keys;
+        final int[] children;
+
+        Page(int id, boolean leaf, int maxKeys) {
+            this.id = id;
+            this.leaf = leaf;
+            this.keys = new Object[maxKeys];
+            this.children = leaf ? null : new int[maxKeys + 1];
+        }
+
+        Page(int id, Page source) {
+            this.id = id;
+            this.leaf = source.leaf;
+            this.count = source.count;
+            this.keys = source.keys.clone();
+            this.children = source.leaf ? null : source.children.clone();
+        }
+
+        int search(Object key) {
+            return Arrays.binarySearch(keys, 0, count, key);
+        }
+
+        /**
+         * A child at index i holds elements that are not less than keys[i - 1] and less than keys[i].
+         */
+        int childIndex(Object key) {
+            int index = search(key);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+    }
+
+    private final FileChannel channel;
+
+    private final KeyCodec<T> codec;
+
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+
+    private final PageCache<Page> cache;
+
+    private final int maxLeafKeys;
+
+    private final int maxInternalKeys;
+
+    private final int childrenOffset;
+
+    private long generation;
+
+    private int root;
+
+    private int pageCount;
+
+    private int levels;
+
+    private int size;
+
+    private int firstUncommittedPage;
+
+    private boolean modified;
+
+    private MappedBPlusTree(FileChannel channel, KeyCodec<T> codec, int cachedPages) {
+        this.channel = channel;
+        this.codec = codec;
+        this.cache = new PageCache<>(cachedPages);
+        int keySize = codec.keySize();
+        this.maxLeafKeys = (PAGE_SIZE - PAGE_KEYS_OFFSET) / keySize;
+        this.maxInternalKeys = (PAGE_SIZE - PAGE_KEYS_OFFSET - Integer.BYTES) / (keySize + Integer.BYTES);
+        this.childrenOffset = PAGE_KEYS_OFFSET + maxInternalKeys * keySize;
+    }
+
+    /**
+     * Opens a tree that is stored in a file, or creates a new one if the file does not exist or is empty.
+     *
+     * @param path  a path to the file
+     * @param codec a codec of elements
+     * @param <T>   a type of elements
+     * @return an opened tree
+     * @throws IOException if the file can not be opened or is not a valid tree file
+     */
+    public static <T extends Comparable<T>> MappedBPlusTree<T> open(Path path, KeyCodec<T> codec) throws IOException {
+        return open(path, codec, DEFAULT_CACHED_PAGES);
+    }
+
+    /**
+     * Opens a tree that is stored in a file, or creates a new one if the file does not exist or is empty.
+     *
+     * @param path        a path to the file
+     * @param codec       a codec of elements
+     * @param cachedPages maximum number of decoded pages that are kept in memory
+     * @param <T>         a type of elements
+     * @return an opened tree
+     * @throws IOException              if the file can not be opened or is not a valid tree file
+     * @throws IllegalArgumentException if an internal page can not hold at least three keys of the codec, or the
+     *                                  number of cached pages is not positive
+     */
+    public static <T extends Comparable<T>> MappedBPlusTree<T> open(Path path, KeyCodec<T> codec, int cachedPages)
+            throws IOException {
+        Objects.requireNonNull(codec);
+        int keySize = codec.keySize();
+        if (keySize <= 0 || (PAGE_SIZE - PAGE_KEYS_OFFSET - Integer.BYTES) / (keySize + Integer.BYTES) < 3) {
+            throw new IllegalArgumentException("Key size " + keySize + " does not fit in a page");
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedBPlusTree<T> tree = new MappedBPlusTree<>(channel, codec, cachedPages);
+            if (channel.size() == 0) {
+                tree.initialize();
+            } else {
+                tree.readHeader();
+            }
+            return tree;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void initialize() {
+        root = NO_PAGE;
+        pageCount = HEADER_SLOTS;
+        writeHeader(0);
+        firstUncommittedPage = pageCount;
+    }
+
+    private void readHeader() throws IOException {
+        if (channel.size() < (long) SEGMENT_PAGES * PAGE_SIZE) {
+            throw new IOException("Not a tree file");
+        }
+        ByteBuffer buffer = segment(0);
+        int activeSlot = NO_PAGE;
+        for (int slot = 0; slot < HEADER_SLOTS; slot++) {
+            int offset = slot * PAGE_SIZE;
+            if (isValidHeader(buffer, offset) && (activeSlot == NO_PAGE || buffer.getLong(offset + 8) > generation)) {
+                activeSlot = slot;
+                generation = buffer.getLong(offset + 8);
+            }
+        }
+        if (activeSlot == NO_PAGE) {
+            throw new IOException("Not a tree file or both headers are corrupted");
+        }
+        int offset = activeSlot * PAGE_SIZE;
+        if (buffer.getInt(offset + 4) != codec.keySize()) {
+            throw new IllegalArgumentException("Key size " + codec.keySize() + " does not match the file");
+        }
+        root = buffer.getInt(offset + 16);
+        pageCount = buffer.getInt(offset + 20);
+        levels = buffer.getInt(offset + 24);
+        size = buffer.getInt(offset + 28);
+        firstUncommittedPage = pageCount;
+    }
+
+    private static boolean isValidHeader(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset) == MAGIC
+                && buffer.getLong(offset + HEADER_CHECKSUM_OFFSET) == checksum(buffer, offset);
+    }
+
+    /**
+     * Writes the state of the tree to a header slot. The header takes 40 bytes: magic number, key size, generation,
+     * root page, page count, levels, size and a checksum of all previous fields.
+     */
+    private void writeHeader(int slot) {
+        ByteBuffer buffer = segment(0);
+        int offset = slot * PAGE_SIZE;
+        buffer.putInt(offset, MAGIC);
+        buffer.putInt(offset + 4, codec.keySize());
+        buffer.putLong(offset + 8, generation);
+        buffer.putInt(offset + 16, root);
+        buffer.putInt(offset + 20, pageCount);
+        buffer.putInt(offset + 24, levels);
+        buffer.putInt(offset + 28, size);
+        buffer.putLong(offset + HEADER_CHECKSUM_OFFSET, checksum(buffer, offset));
+        segment(0).force();
+    }
+
+    private static long checksum(ByteBuffer buffer, int offset) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, HEADER_CHECKSUM_OFFSET));
+        return crc.getValue();
+    }
+
+    /**
+     * Makes all changes since the last commit durable. Pages are flushed to disk before the header that points to
+     * them, and the header is written to the slot that does not hold the previous version.
+     */
+    public void commit() {
+        if (!modified) {
+            return;
+        }
+        for (MappedByteBuffer segment : segments) {
+            if (segment != null) {
+                segment.force();
+            }
+        }
+        generation++;
+        writeHeader((int) (generation % HEADER_SLOTS));
+        firstUncommittedPage = pageCount;
+        modified = false;
+    }
+
+    /**
+     * Commits all changes and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            commit();
+            channel.close();
+        }
+    }
+
+    /**
+     * Inserts an element without committing it. A duplicate is detected before the descent that copies pages, so
+     * inserting an existing element does not modify the file.
+     */
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        if (contains(element)) {
+            return false;
+        }
+        modified = true;
+        if (root == NO_PAGE) {
+            root = allocate(true).id;
+            levels = 1;
+        }
+        Page node = writable(page(root));
+        root = node.id;
+        if (node.count == maxKeys(node)) {
+            Page newRoot = allocate(false);
+            newRoot.children[0] = node.id;
+            splitChild(newRoot, 0, node);
+            root = newRoot.id;
+            levels++;
+            node = newRoot;
+        }
+        while (!node.leaf) {
+            int index = node.childIndex(element);
+            Page child = writable(page(node.children[index]));
+            if (child.id != node.children[index]) {
+                node.children[index] = child.id;
+                write(node);
+            }
+            if (child.count == maxKeys(child)) {
+                Page sibling = splitChild(node, index, child);
+                if (element.compareTo(key(node, index)) >= 0) {
+                    child = sibling;
+                }
+            }
+            node = child;
+        }
+        int index = -node.search(element) - 1;
+        insertAt(node.keys, node.count, index, element);
+        node.count++;
+        write(node);
+        size++;
+        return true;
+    }
+
+    /**
+     * Splits a full child of a writable page that is not full, and inserts the separator of the two halves into the
+     * page. Both the child and the parent must be writable.
+     *
+     * @return a new right half of the child
+     */
+    private Page splitChild(Page parent, int index, Page child) {
+        int middle = child.count >>> 1;
+        Page sibling = allocate(child.leaf);
+        Object separator;
+        if (child.leaf) {
+            sibling.count = child.count - middle;
+            System.arraycopy(child.keys, middle, sibling.keys, 0, sibling.count);
+            separator = sibling.keys[0];
+        } else {
+            sibling.count = child.count - middle - 1;
+            System.arraycopy(child.keys, middle + 1, sibling.keys, 0, sibling.count);
+            System.arraycopy(child.children, middle + 1, sibling.children, 0, sibling.count + 1);
+            separator = child.keys[middle];
+        }
+        Arrays.fill(child.keys, middle, child.count, null);
+        child.count = middle;
+        insertAt(parent.keys, parent.count, index, separator);
+        System.arraycopy(parent.children, index + 1, parent.children, index + 2, parent.count - index);
+        parent.children[index + 1] = sibling.id;
+        parent.count++;
+        write(child);
+        write(sibling);
+        write(parent);
+        return sibling;
+    }
+
+    private static void insertAt(Object[] array, int length, int index, Object value) {
+        System.arraycopy(array, index, array, index + 1, length - index);
+        array[index] = value;
+    }
+
+    private int maxKeys(Page page) {
+        return page.leaf ? maxLeafKeys : maxInternalKeys;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T key(Page page, int index) {
+        return (T) page.keys[index];
+    }
+
+    /**
+     * Returns the page itself if it was created after the last commit, or its copy in a new page otherwise.
+     */
+    private Page writable(Page page) {
+        if (page.id >= firstUncommittedPage) {
+            return page;
+        }
+        Page copy = new Page(pageCount++, page);
+        write(copy);
+        return copy;
+    }
+
+    private Page allocate(boolean leaf) {
+        Page page = new Page(pageCount++, leaf, leaf ? maxLeafKeys : maxInternalKeys);
+        write(page);
+        return page;
+    }
+
+    private Page page(int pageId) {
+        Page page = cache.get(pageId);
+        if (page == null) {
+            page = decode(pageId);
+            cache.put(pageId, page);
+        }
+        return page;
+    }
+
+    /**
+     * A page starts with a type byte and a number of keys, followed by the keys. An internal page stores child page
+     * ids after the space that is reserved for its keys.
+     */
+    private Page decode(int pageId) {
+        ByteBuffer buffer = segment(pageId / SEGMENT_PAGES);
+        int base = (pageId % SEGMENT_PAGES) * PAGE_SIZE;
+        boolean leaf = buffer.get(base) == 0;
+        Page page = new Page(pageId, leaf, leaf ? maxLeafKeys : maxInternalKeys);
+        page.count = buffer.getInt(base + 4);
+        for (int i = 0; i < page.count; i++) {
+            page.keys[i] = codec.decode(buffer, base + PAGE_KEYS_OFFSET + i * codec.keySize());
+        }
+        if (!leaf) {
+            for (int i = 0; i <= page.count; i++) {
+                page.children[i] = buffer.getInt(base + childrenOffset + i * Integer.BYTES);
+            }
+        }
+        return page;
+    }
+
+    private void write(Page page) {
+        ByteBuffer buffer = segment(page.id / SEGMENT_PAGES);
+        int base = (page.id % SEGMENT_PAGES) * PAGE_SIZE;
+        buffer.put(base, (byte) (page.leaf ? 0 : 1));
+        buffer.putInt(base + 4, page.count);
+        for (int i = 0; i < page.count; i++) {
+            codec.encode(key(page, i), buffer, base + PAGE_KEYS_OFFSET + i * codec.keySize());
+        }
+        if (!page.leaf) {
+            for (int i = 0; i <= page.count; i++) {
+                buffer.putInt(base + childrenOffset + i * Integer.BYTES, page.children[i]);
+            }
+        }
+        cache.put(page.id, page);
+    }
+
+    /**
+     * Maps a segment of the file on the first access. Mapping a segment beyond the end of the file extends the file.
+     */
+    private MappedByteBuffer segment(int index) {
+        while (segments.size() <= index) {
+            segments.add(null);
+        }
+        MappedByteBuffer segment = segments.get(index);
+        if (segment == null) {
+            long segmentSize = (long) SEGMENT_PAGES * PAGE_SIZE;
+            try {
+                segment = channel.map(FileChannel.MapMode.READ_WRITE, index * segmentSize, segmentSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            segments.set(index, segment);
+        }
+        return segment;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        if (root == NO_PAGE) {
+            return false;
+        }
+        Page page = page(root);
+        while (!page.leaf) {
+            page = page(page.children[page.childIndex(element)]);
+        }
+        return page.search(element) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * All leaves are on the same level, so the depth is the number of levels below the root page.
+     */
+    @Override
+    public int depth() {
+        return levels > 0 ? levels - 1 : 0;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        if (root != NO_PAGE) {
+            inOrderTraversal(root, consumer);
+        }
+    }
+
+    /**
+     * The recursion depth is the number of levels, which is small for any practical number of elements.
+     */
+    private void inOrderTraversal(int pageId, Consumer<T> consumer) {
+        Page page = page(pageId);
+        if (page.leaf) {
+            for (int i = 0; i < page.count; i++) {
+                consumer.accept(key(page, i));
+            }
+        } else {
+            for (int i = 0; i <= page.count; i++) {
+                inOrderTraversal(page.children[i], consumer);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.bobocode.cs;
+
+import java.util.function.Consumer;
+
+public interface OrderStatisticTree<T extends Comparable<T>> extends BinarySearchTree<T> {
+    /**
+     * @param k zero-based index of an element in element's natural order
+     * @return k-th smallest element
+     * @throws IndexOutOfBoundsException if k is negative or not less than size
+     */
+    T select(int k);
+
+    /**
+     * @return number of elements that are less than the provided element
+     */
+    int rank(T element);
+
+    /**
+     * @return the greatest element that is less than or equal to the provided element; null - if there is no such
+     * element
+     */
+    T floor(T element);
+
+    /**
+     * @return the least element that is greater than or equal to the provided element; null - if there is no such
+     * element
+     */
+    T ceiling(T element);
+
+    /**
+     * @return number of elements that are between from and to, both inclusive
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    int countInRange(T from, T to);
+
+    /**
+     * traverse elements that are between from and to, both inclusive, in element's natural order
+     * @param consumer accepts ref. to node during traversing
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    void range(T from, T to, Consumer<T> consumer);
+}
@@ -0,0 +1,80 @@
+package com.bobocode.cs;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link PageCache} keeps a fixed number of decoded pages and evicts them with the clock algorithm. Every slot has a
+ * reference bit that is set when the page is used. When the cache is full, the clock hand goes around the slots,
+ * clearing the bits that are set, and evicts the first page that has not been used since the last round.
+ * <p>
+ * The cache does not write anything back: pages are written to the file when they are modified, so an evicted page
+ * is simply dropped.
+ *
+ * @param <P> a type of decoded pages
+ */
+final class PageCache<P> {
+
+    private final int[] pageIds;
+
+    private final Object[] pages;
+
+    private final boolean[] referenced;
+
+    private final Map<Integer, Integer> slotsByPageId = new HashMap<>();
+
+    private int used;
+
+    private int hand;
+
+    PageCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        pageIds = new int[capacity];
+        pages = new Object[capacity];
+        referenced = new boolean[capacity];
+    }
+
+    /**
+     * @return a cached page or null if the page is not in the cache
+     */
+    @SuppressWarnings("unchecked")
+    P get(int pageId) {
+        Integer slot = slotsByPageId.get(pageId);
+        if (slot == null) {
+            return null;
+        }
+        referenced[slot] = true;
+        return (P) pages[slot];
+    }
+
+    /**
+     * Puts a page in the cache, replacing a previous version of the same page if it is cached.
+     */
+    void put(int pageId, P page) {
+        Integer slot = slotsByPageId.get(pageId);
+        if (slot == null) {
+            slot = used < pages.length ? used++ : evict();
+            pageIds[slot] = pageId;
+            slotsByPageId.put(pageId, slot);
+        }
+        pages[slot] = page;
+        referenced[slot] = true;
+    }
+
+    private int evict() {
+        while (referenced[hand]) {
+            referenced[hand] = false;
+            hand = (hand + 1) % pages.length;
+        }
+        int slot = hand;
+        slotsByPageId.remove(pageIds[slot]);
+        hand = (hand + 1) % pages.length;
+        return slot;
+    }
+
+    int size() {
+        return slotsByPageId.size();
+    }
+}
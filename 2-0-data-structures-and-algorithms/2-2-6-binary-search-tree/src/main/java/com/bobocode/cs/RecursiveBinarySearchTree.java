@@ -1,13 +1,19 @@
 package com.bobocode.cs;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
-import java.util.stream.Stream;
 
 /**
- * {@link RecursiveBinarySearchTree} is an implementation of a {@link BinarySearchTree} that is based on a linked nodes
- * and recursion. A tree node is represented as a nested class {@link Node}. It holds an element (a value) and
- * two references to the left and right child nodes.
+ * {@link RecursiveBinarySearchTree} is an implementation of a {@link BinarySearchTree} that is based on a linked nodes.
+ * A tree node is represented as a nested class {@link Node}. It holds an element (a value) and
+ * two references to the left and right child nodes. Though the tree is recursive by nature, all operations are
+ * implemented with loops, so they work for a tree of any shape (e.g. a degenerate tree of sorted elements) without
+ * growing the call stack.
  * <p><p>
  * <strong><a href="https://www.bobocode.com/learn">visit our website</a></strong>
  * <p>
@@ -32,16 +38,93 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
         }
     }
 
+    private static final int PARALLEL_BUILD_THRESHOLD = 1 << 13;
+
     private Node<T> root;
 
     private int size = 0;
 
+    /**
+     * Creates a perfectly balanced tree of provided elements in any order. Elements are sorted, and then the tree is
+     * built in linear time O(n), the middle element of each range becoming the root of its subtree. Duplicates are
+     * ignored.
+     *
+     * @param elements elements to add
+     * @param <T>      a type of elements
+     * @return a new tree
+     */
+    @SafeVarargs
     public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> of(T... elements) {
+        T[] sorted = SortedElements.sortedDistinct(elements.length, i -> elements[i], false);
+        return fromSortedDistinct(sorted, false);
+    }
+
+    /**
+     * Creates a perfectly balanced tree of elements that are already sorted in ascending order, in linear time O(n).
+     * Duplicates are ignored.
+     *
+     * @param sortedElements elements in ascending order
+     * @param <T>            a type of elements
+     * @return a new tree
+     * @throws IllegalArgumentException if the elements are not sorted
+     */
+    @SafeVarargs
+    public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> ofSorted(T... sortedElements) {
+        T[] sorted = SortedElements.requireSortedDistinct(sortedElements.length, i -> sortedElements[i]);
+        return fromSortedDistinct(sorted, false);
+    }
+
+    /**
+     * Creates a perfectly balanced tree of provided elements in any order like {@link RecursiveBinarySearchTree#of},
+     * but sorts the elements with {@link java.util.Arrays#parallelSort(Object[])} and builds large subtrees in
+     * parallel in the common {@link ForkJoinPool}.
+     *
+     * @param elements elements to add
+     * @param <T>      a type of elements
+     * @return a new tree
+     */
+    @SafeVarargs
+    public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> ofParallel(T... elements) {
+        T[] sorted = SortedElements.sortedDistinct(elements.length, i -> elements[i], true);
+        return fromSortedDistinct(sorted, true);
+    }
+
+    private static <T extends Comparable<T>> RecursiveBinarySearchTree<T> fromSortedDistinct(T[] sorted,
+                                                                                             boolean parallel) {
         RecursiveBinarySearchTree<T> recursiveBinarySearchTree = new RecursiveBinarySearchTree<>();
-        Stream.of(elements).forEach(recursiveBinarySearchTree::insert);
+        recursiveBinarySearchTree.root = parallel
+                ? ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> buildParallel(sorted, 0, sorted.length)))
+                : build(sorted, 0, sorted.length);
+        recursiveBinarySearchTree.size = sorted.length;
         return recursiveBinarySearchTree;
     }
 
+    /**
+     * Builds a balanced subtree of elements in range [from, to). The recursion depth is only log2(n).
+     */
+    private static <T> Node<T> build(T[] sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<T> node = Node.valueOf(sorted[middle]);
+        node.left = build(sorted, from, middle);
+        node.right = build(sorted, middle + 1, to);
+        return node;
+    }
+
+    private static <T> Node<T> buildParallel(T[] sorted, int from, int to) {
+        if (to - from <= PARALLEL_BUILD_THRESHOLD) {
+            return build(sorted, from, to);
+        }
+        int middle = (from + to) >>> 1;
+        Node<T> node = Node.valueOf(sorted[middle]);
+        ForkJoinTask<Node<T>> leftTask = ForkJoinTask.adapt(() -> buildParallel(sorted, from, middle)).fork();
+        node.right = buildParallel(sorted, middle + 1, to);
+        node.left = leftTask.join();
+        return node;
+    }
+
     @Override
     public boolean insert(T element) {
         Objects.requireNonNull(element);
@@ -56,36 +139,25 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
         if (root == null) {
             root = Node.valueOf(element);
             return true;
-        } else {
-            return insertIntoSubTree(root, element);
-        }
-    }
-
-    private boolean insertIntoSubTree(Node<T> subTreeRoot, T element) {
-        if (subTreeRoot.element.compareTo(element) > 0) {
-            return insertIntoLeftSubTree(subTreeRoot, element);
-        } else if (subTreeRoot.element.compareTo(element) < 0) {
-            return insertIntoRightSubTree(subTreeRoot, element);
-        } else {
-            return false;
-        }
-    }
-
-    private boolean insertIntoLeftSubTree(Node<T> node, T element) {
-        if (node.left != null) {
-            return insertIntoSubTree(node.left, element);
-        } else {
-            node.left = Node.valueOf(element);
-            return true;
         }
-    }
-
-    private boolean insertIntoRightSubTree(Node<T> node, T element) {
-        if (node.right != null) {
-            return insertIntoSubTree(node.right, element);
-        } else {
-            node.right = Node.valueOf(element);
-            return true;
+        Node<T> node = root;
+        while (true) {
+            int comparison = element.compareTo(node.element);
+            if (comparison < 0) {
+                if (node.left == null) {
+                    node.left = Node.valueOf(element);
+                    return true;
+                }
+                node = node.left;
+            } else if (comparison > 0) {
+                if (node.right == null) {
+                    node.right = Node.valueOf(element);
+                    return true;
+                }
+                node = node.right;
+            } else {
+                return false;
+            }
         }
     }
 
@@ -96,15 +168,14 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
     }
 
     private Node<T> findChildNodeByElement(Node<T> node, T element) {
-        if (node == null) {
-            return null;
-        } else if (node.element.compareTo(element) > 0) {
-            return findChildNodeByElement(node.left, element);
-        } else if (node.element.compareTo(element) < 0) {
-            return findChildNodeByElement(node.right, element);
-        } else {
-            return node;
+        while (node != null) {
+            int comparison = element.compareTo(node.element);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
         }
+        return null;
     }
 
     @Override
@@ -112,29 +183,57 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
         return size;
     }
 
+    /**
+     * Calculates the depth level by level (breadth-first), so it works for a tree of any shape without recursion.
+     */
     @Override
     public int depth() {
-        return root != null ? depth(root) - 1 : 0;
-    }
-
-    private int depth(Node<T> node) {
-        if (node == null) {
+        if (root == null) {
             return 0;
-        } else {
-            return 1 + Math.max(depth(node.left), depth(node.right));
         }
+        Deque<Node<T>> level = new ArrayDeque<>();
+        level.add(root);
+        int depth = -1;
+        while (!level.isEmpty()) {
+            depth++;
+            for (int nodesOnLevel = level.size(); nodesOnLevel > 0; nodesOnLevel--) {
+                Node<T> node = level.poll();
+                if (node.left != null) {
+                    level.add(node.left);
+                }
+                if (node.right != null) {
+                    level.add(node.right);
+                }
+            }
+        }
+        return depth;
     }
 
+    /**
+     * Traverses the tree with an explicit stack of nodes instead of recursion. The stack holds the path from the root
+     * to the current node, so a degenerate tree can not cause {@link StackOverflowError}.
+     */
     @Override
     public void inOrderTraversal(Consumer<T> consumer) {
-        inOrderTraversal(root, consumer);
-    }
-
-    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
-        if (node != null) {
-            inOrderTraversal(node.left, consumer);
+        Deque<Node<T>> path = new ArrayDeque<>();
+        Node<T> node = root;
+        while (node != null || !path.isEmpty()) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+            node = path.pop();
             consumer.accept(node.element);
-            inOrderTraversal(node.right, consumer);
+            node = node.right;
         }
     }
+
+    /**
+     * Creates a spliterator that splits the tree at subtree roots, so a parallel stream processes subtrees in parallel
+     * and keeps the encounter order.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new TreeSpliterator<Node<T>, T>(root, size, node -> node.left, node -> node.right, node -> node.element);
+    }
 }
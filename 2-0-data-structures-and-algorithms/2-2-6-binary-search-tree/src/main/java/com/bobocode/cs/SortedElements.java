@@ -0,0 +1,80 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Helper methods that prepare an array for a bulk build of a balanced tree: the elements must be sorted in ascending
+ * order and must not contain duplicates.
+ * <p>
+ * Elements are read one by one through a function, so the {@code @SafeVarargs} factories of the trees never pass their
+ * generic varargs array to another method.
+ */
+final class SortedElements {
+
+    private SortedElements() {
+    }
+
+    /**
+     * Returns a sorted copy of the elements without duplicates.
+     *
+     * @param length    number of elements
+     * @param elementAt returns an element in any order by its index
+     * @param parallel  whether to sort with {@link Arrays#parallelSort(Object[])}
+     * @param <T>       a type of elements
+     * @return a new sorted array of distinct elements
+     */
+    static <T extends Comparable<T>> T[] sortedDistinct(int length, IntFunction<T> elementAt, boolean parallel) {
+        T[] sorted = copy(length, elementAt);
+        if (parallel) {
+            Arrays.parallelSort(sorted);
+        } else {
+            Arrays.sort(sorted);
+        }
+        return distinct(sorted);
+    }
+
+    /**
+     * Returns a copy of already sorted elements without duplicates, checking the order in a single pass.
+     *
+     * @param length    number of elements
+     * @param elementAt returns an element by its index, elements are in ascending order and equal elements may
+     *                  follow each other
+     * @param <T>       a type of elements
+     * @return a new sorted array of distinct elements
+     * @throws IllegalArgumentException if the elements are not sorted in ascending order
+     */
+    static <T extends Comparable<T>> T[] requireSortedDistinct(int length, IntFunction<T> elementAt) {
+        T[] copy = copy(length, elementAt);
+        for (int i = 1; i < copy.length; i++) {
+            if (copy[i - 1].compareTo(copy[i]) > 0) {
+                throw new IllegalArgumentException("Elements are not sorted at index " + i);
+            }
+        }
+        return distinct(copy);
+    }
+
+    /**
+     * Copies non-null elements into a new array. Its component type is {@link Comparable}, the erasure of {@code T},
+     * so the unchecked cast is safe.
+     */
+    private static <T extends Comparable<T>> T[] copy(int length, IntFunction<T> elementAt) {
+        @SuppressWarnings("unchecked")
+        T[] copy = (T[]) new Comparable<?>[length];
+        for (int i = 0; i < length; i++) {
+            copy[i] = Objects.requireNonNull(elementAt.apply(i));
+        }
+        return copy;
+    }
+
+    private static <T extends Comparable<T>> T[] distinct(T[] sorted) {
+        int distinctCount = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (distinctCount == 0 || sorted[distinctCount - 1].compareTo(sorted[i]) != 0) {
+                sorted[distinctCount++] = sorted[i];
+            }
+        }
+        return distinctCount == sorted.length ? sorted : Arrays.copyOf(sorted, distinctCount);
+    }
+}
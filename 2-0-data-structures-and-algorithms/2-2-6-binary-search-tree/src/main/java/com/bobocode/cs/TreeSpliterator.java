@@ -0,0 +1,204 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link TreeSpliterator} is a {@link Spliterator} over elements of a binary search tree with linked nodes, that
+ * traverses them in order and splits the tree at subtree roots. Nodes are accessed through functions, so the same
+ * spliterator works for any node class.
+ * <p>
+ * The remaining elements are a whole subtree that is not expanded yet, followed by entries of an explicit stack. Each
+ * entry is an element followed by a whole subtree (for a usual in-order stack it is the right subtree of the node).
+ * An unexpanded subtree is split into its left subtree, that is returned as a prefix, and its root with the right
+ * subtree. Otherwise, the entry at the bottom of the stack, that holds the largest subtree, is kept, and the entries
+ * above it are returned as a prefix. So the splits of a balanced tree are balanced, while the encounter order is kept.
+ * <p>
+ * The tree must not be modified while it is traversed.
+ *
+ * @param <N> a type of tree nodes
+ * @param <T> a type of elements
+ */
+final class TreeSpliterator<N, T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = ORDERED | SORTED | DISTINCT | NONNULL;
+
+    private static final int INITIAL_STACK_CAPACITY = 16;
+
+    private final Function<N, N> left;
+
+    private final Function<N, N> right;
+
+    private final Function<N, T> element;
+
+    private N subtree;
+
+    private Object[] nodes;
+
+    private Object[] afterNodes;
+
+    private int top;
+
+    private long estimatedSize;
+
+    private boolean sized;
+
+    /**
+     * Creates a spliterator over all elements of a tree.
+     *
+     * @param root    root node or null if the tree is empty
+     * @param size    number of elements in the tree
+     * @param left    returns the left child of a node
+     * @param right   returns the right child of a node
+     * @param element returns the element of a node
+     */
+    TreeSpliterator(N root, int size, Function<N, N> left, Function<N, N> right, Function<N, T> element) {
+        this(left, right, element, size, INITIAL_STACK_CAPACITY);
+        this.subtree = root;
+        this.sized = true;
+    }
+
+    private TreeSpliterator(Function<N, N> left, Function<N, N> right, Function<N, T> element, long estimatedSize,
+                            int stackCapacity) {
+        this.left = left;
+        this.right = right;
+        this.element = element;
+        this.estimatedSize = estimatedSize;
+        this.nodes = new Object[stackCapacity];
+        this.afterNodes = new Object[stackCapacity];
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (subtree != null) {
+            pushLeftPath(subtree);
+            subtree = null;
+        }
+        if (top == 0) {
+            return false;
+        }
+        N node = node(--top);
+        N afterNode = afterNode(top);
+        nodes[top] = afterNodes[top] = null;
+        pushLeftPath(afterNode);
+        if (estimatedSize > 0) {
+            estimatedSize--;
+        }
+        action.accept(element.apply(node));
+        return true;
+    }
+
+    private void pushLeftPath(N node) {
+        while (node != null) {
+            push(node, right.apply(node));
+            node = left.apply(node);
+        }
+    }
+
+    private void push(N node, N afterNode) {
+        if (top == nodes.length) {
+            nodes = Arrays.copyOf(nodes, top * 2);
+            afterNodes = Arrays.copyOf(afterNodes, top * 2);
+        }
+        nodes[top] = node;
+        afterNodes[top] = afterNode;
+        top++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private N node(int index) {
+        return (N) nodes[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private N afterNode(int index) {
+        return (N) afterNodes[index];
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        TreeSpliterator<N, T> prefix = subtree != null ? splitSubtree() : null;
+        if (prefix == null) {
+            prefix = top > 1 ? splitStack() : splitBottomEntry();
+        }
+        if (prefix != null) {
+            sized = false;
+            estimatedSize -= prefix.estimatedSize;
+        }
+        return prefix;
+    }
+
+    /**
+     * Expands the unexpanded subtree into a stack entry of its root, and returns its left subtree as a prefix.
+     */
+    private TreeSpliterator<N, T> splitSubtree() {
+        N root = subtree;
+        subtree = null;
+        push(root, right.apply(root));
+        N leftSubtree = left.apply(root);
+        if (leftSubtree == null) {
+            return null;
+        }
+        TreeSpliterator<N, T> prefix = newPrefix(INITIAL_STACK_CAPACITY);
+        prefix.subtree = leftSubtree;
+        return prefix;
+    }
+
+    /**
+     * Keeps the bottom entry of the stack and returns all entries above it as a prefix.
+     */
+    private TreeSpliterator<N, T> splitStack() {
+        TreeSpliterator<N, T> prefix = newPrefix(top - 1);
+        System.arraycopy(nodes, 1, prefix.nodes, 0, top - 1);
+        System.arraycopy(afterNodes, 1, prefix.afterNodes, 0, top - 1);
+        prefix.top = top - 1;
+        Arrays.fill(nodes, 1, top, null);
+        Arrays.fill(afterNodes, 1, top, null);
+        top = 1;
+        return prefix;
+    }
+
+    /**
+     * Splits the only entry, that is an element followed by a subtree, at the root of the subtree. The element and
+     * the left subtree of the root become a prefix, and the root with its right subtree stay.
+     */
+    private TreeSpliterator<N, T> splitBottomEntry() {
+        N afterNode = top == 1 ? afterNode(0) : null;
+        if (afterNode == null) {
+            return null;
+        }
+        TreeSpliterator<N, T> prefix = newPrefix(INITIAL_STACK_CAPACITY);
+        prefix.push(node(0), left.apply(afterNode));
+        nodes[0] = afterNode;
+        afterNodes[0] = right.apply(afterNode);
+        return prefix;
+    }
+
+    private TreeSpliterator<N, T> newPrefix(int stackCapacity) {
+        return new TreeSpliterator<>(left, right, element, estimatedSize >>> 1,
+                Math.max(stackCapacity, INITIAL_STACK_CAPACITY));
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimatedSize;
+    }
+
+    @Override
+    public int characteristics() {
+        return sized ? CHARACTERISTICS | SIZED : CHARACTERISTICS;
+    }
+
+    /**
+     * Elements are sorted in their natural order.
+     *
+     * @return null
+     */
+    @Override
+    public Comparator<? super T> getComparator() {
+        return null;
+    }
+}
@@ -0,0 +1,276 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AvlBinarySearchTreeTest {
+
+    private BinarySearchTree<Integer> tree = new AvlBinarySearchTree<>();
+
+    @Test
+    @Order(1)
+    void insert() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(5)).isTrue();
+        assertThat(tree.insert(10)).isFalse();
+
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(2)
+    void insertNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+    }
+
+    @Test
+    @Order(3)
+    void contains() {
+        AvlBinarySearchTree<Integer> avlTree = AvlBinarySearchTree.of(5, 3, 8, 1);
+
+        assertThat(avlTree.contains(3)).isTrue();
+        assertThat(avlTree.contains(8)).isTrue();
+        assertThat(avlTree.contains(4)).isFalse();
+    }
+
+    @Test
+    @Order(4)
+    void containsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(5)
+    void depthOfEmptyTreeAndSingleElementTree() {
+        assertThat(tree.depth()).isEqualTo(0);
+        tree.insert(1);
+        assertThat(tree.depth()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(6)
+    void sortedInsertionsKeepTreeBalanced() {
+        for (int i = 0; i < 7; i++) {
+            tree.insert(i);
+        }
+
+        assertThat(tree.depth()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(7)
+    void depthStaysWithinAvlBoundForSortedInput() {
+        int n = 100_000;
+        for (int i = 0; i < n; i++) {
+            tree.insert(i);
+        }
+
+        assertThat(tree.size()).isEqualTo(n);
+        assertThat(tree.depth()).isLessThanOrEqualTo(avlDepthBound(n));
+        assertThat(tree.contains(n - 1)).isTrue();
+        assertThat(tree.contains(n)).isFalse();
+    }
+
+    @Test
+    @Order(8)
+    void depthStaysWithinAvlBoundForReversedAndRandomInput() {
+        BinarySearchTree<Integer> reversedTree = new AvlBinarySearchTree<>();
+        for (int i = 10_000; i > 0; i--) {
+            reversedTree.insert(i);
+        }
+        Random random = new Random(1);
+        for (int i = 0; i < 10_000; i++) {
+            tree.insert(random.nextInt());
+        }
+
+        assertThat(reversedTree.depth()).isLessThanOrEqualTo(avlDepthBound(reversedTree.size()));
+        assertThat(tree.depth()).isLessThanOrEqualTo(avlDepthBound(tree.size()));
+    }
+
+    private int avlDepthBound(int size) {
+        return (int) (1.4405 * Math.log(size + 2) / Math.log(2));
+    }
+
+    @Test
+    @Order(9)
+    void inOrderTraversal() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(i);
+        }
+        Collections.shuffle(elements, new Random(2));
+        elements.forEach(tree::insert);
+
+        List<Integer> traversed = new ArrayList<>();
+        tree.inOrderTraversal(traversed::add);
+
+        Collections.sort(elements);
+        assertThat(traversed).isEqualTo(elements);
+    }
+
+    @Test
+    @Order(10)
+    void ofBuildsPerfectlyBalancedTree() {
+        Integer[] elements = new Integer[100_000];
+        Arrays.setAll(elements, i -> elements.length - i);
+
+        AvlBinarySearchTree<Integer> avlTree = AvlBinarySearchTree.of(elements);
+
+        assertThat(avlTree.size()).isEqualTo(elements.length);
+        assertThat(avlTree.depth()).isEqualTo(16);
+    }
+
+    @Test
+    @Order(11)
+    void treeBuiltFromSortedElementsStaysBalancedAfterInsertions() {
+        Integer[] elements = new Integer[1000];
+        Arrays.setAll(elements, i -> 2 * i);
+        AvlBinarySearchTree<Integer> avlTree = AvlBinarySearchTree.ofSorted(elements);
+
+        for (int i = 2000; i < 12_000; i++) {
+            avlTree.insert(i);
+        }
+
+        assertThat(avlTree.size()).isEqualTo(11_000);
+        assertThat(avlTree.depth()).isLessThanOrEqualTo(avlDepthBound(avlTree.size()));
+        assertThat(avlTree.contains(998)).isTrue();
+        assertThat(avlTree.contains(999)).isFalse();
+    }
+
+    @Test
+    @Order(12)
+    void ofSortedThrowsExceptionIfElementsAreNotSorted() {
+        assertThatIllegalArgumentException().isThrownBy(() -> AvlBinarySearchTree.ofSorted(2, 1));
+    }
+
+    @Test
+    @Order(13)
+    void ofParallelBuildsSameTreeAsOf() {
+        Random random = new Random(3);
+        Integer[] elements = new Integer[50_000];
+        Arrays.setAll(elements, i -> random.nextInt(20_000));
+
+        AvlBinarySearchTree<Integer> sequentialTree = AvlBinarySearchTree.of(elements);
+        AvlBinarySearchTree<Integer> parallelTree = AvlBinarySearchTree.ofParallel(elements);
+
+        List<Integer> sequentialElements = new ArrayList<>();
+        sequentialTree.inOrderTraversal(sequentialElements::add);
+        List<Integer> parallelElements = new ArrayList<>();
+        parallelTree.inOrderTraversal(parallelElements::add);
+        assertThat(parallelElements).isEqualTo(sequentialElements);
+        assertThat(parallelTree.depth()).isEqualTo(sequentialTree.depth());
+    }
+
+    @Test
+    @Order(14)
+    void selectAndRankAfterRandomInsertions() {
+        AvlBinarySearchTree<Integer> avlTree = new AvlBinarySearchTree<>();
+        Random random = new Random(4);
+        for (int i = 0; i < 5000; i++) {
+            avlTree.insert(random.nextInt(10_000));
+        }
+        List<Integer> sorted = new ArrayList<>();
+        avlTree.inOrderTraversal(sorted::add);
+
+        for (int k = 0; k < sorted.size(); k++) {
+            assertThat(avlTree.select(k)).isEqualTo(sorted.get(k));
+            assertThat(avlTree.rank(sorted.get(k))).isEqualTo(k);
+        }
+    }
+
+    @Test
+    @Order(15)
+    void selectThrowsExceptionIfIndexIsOutOfBounds() {
+        AvlBinarySearchTree<Integer> avlTree = AvlBinarySearchTree.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> avlTree.select(-1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> avlTree.select(3));
+    }
+
+    @Test
+    @Order(16)
+    void rankOfMissingElement() {
+        AvlBinarySearchTree<Integer> avlTree = AvlBinarySearchTree.of(10, 20, 30);
+
+        assertThat(avlTree.rank(5)).isEqualTo(0);
+        assertThat(avlTree.rank(25)).isEqualTo(2);
+        assertThat(avlTree.rank(35)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(17)
+    void floorAndCeiling() {
+        AvlBinarySearchTree<Integer> avlTree = AvlBinarySearchTree.of(10, 20, 30, 40);
+
+        assertThat(avlTree.floor(25)).isEqualTo(20);
+        assertThat(avlTree.floor(30)).isEqualTo(30);
+        assertThat(avlTree.floor(5)).isNull();
+        assertThat(avlTree.ceiling(25)).isEqualTo(30);
+        assertThat(avlTree.ceiling(10)).isEqualTo(10);
+        assertThat(avlTree.ceiling(45)).isNull();
+    }
+
+    @Test
+    @Order(18)
+    void countInRange() {
+        for (int i = 0; i < 1000; i += 2) {
+            tree.insert(i);
+        }
+        AvlBinarySearchTree<Integer> avlTree = (AvlBinarySearchTree<Integer>) tree;
+
+        assertThat(avlTree.countInRange(10, 20)).isEqualTo(6);
+        assertThat(avlTree.countInRange(11, 19)).isEqualTo(4);
+        assertThat(avlTree.countInRange(-100, 2000)).isEqualTo(500);
+        assertThat(avlTree.countInRange(999, 999)).isEqualTo(0);
+    }
+
+    @Test
+    @Order(19)
+    void rangeTraversesOnlyElementsWithinBounds() {
+        Integer[] elements = new Integer[100_000];
+        Arrays.setAll(elements, i -> 3 * i);
+        AvlBinarySearchTree<Integer> avlTree = AvlBinarySearchTree.ofSorted(elements);
+
+        List<Integer> traversed = new ArrayList<>();
+        avlTree.range(100, 130, traversed::add);
+
+        assertThat(traversed).isEqualTo(List.of(102, 105, 108, 111, 114, 117, 120, 123, 126, 129));
+    }
+
+    @Test
+    @Order(20)
+    void rangeOutsideOfElements() {
+        AvlBinarySearchTree<Integer> avlTree = AvlBinarySearchTree.of(10, 20, 30);
+
+        List<Integer> traversed = new ArrayList<>();
+        avlTree.range(31, 40, traversed::add);
+        avlTree.range(0, 9, traversed::add);
+        avlTree.range(11, 19, traversed::add);
+
+        assertThat(traversed).isEmpty();
+    }
+
+    @Test
+    @Order(21)
+    void rangeThrowsExceptionIfFromIsGreaterThanTo() {
+        AvlBinarySearchTree<Integer> avlTree = AvlBinarySearchTree.of(10, 20, 30);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> avlTree.range(20, 10, element -> {
+        }));
+        assertThatIllegalArgumentException().isThrownBy(() -> avlTree.countInRange(20, 10));
+    }
+}
@@ -0,0 +1,129 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BPlusTreeTest {
+
+    private BinarySearchTree<Integer> tree = new BPlusTree<>();
+
+    @Test
+    @Order(1)
+    void insert() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(5)).isTrue();
+        assertThat(tree.insert(10)).isFalse();
+
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(2)
+    void insertNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+    }
+
+    @Test
+    @Order(3)
+    void contains() {
+        BPlusTree<Integer> bPlusTree = BPlusTree.of(5, 3, 8, 1);
+
+        assertThat(bPlusTree.contains(3)).isTrue();
+        assertThat(bPlusTree.contains(8)).isTrue();
+        assertThat(bPlusTree.contains(4)).isFalse();
+    }
+
+    @Test
+    @Order(4)
+    void containsOnEmptyTree() {
+        assertThat(tree.contains(1)).isFalse();
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(5)
+    void constructorThrowsExceptionIfFanoutIsTooSmall() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BPlusTree<Integer>(3));
+    }
+
+    @Test
+    @Order(6)
+    void depthGrowsWhenRootIsSplit() {
+        tree = new BPlusTree<>(4);
+        assertThat(tree.depth()).isEqualTo(0);
+
+        for (int i = 0; i < 3; i++) {
+            tree.insert(i);
+        }
+        assertThat(tree.depth()).isEqualTo(0);
+
+        tree.insert(3);
+        assertThat(tree.depth()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(7)
+    void depthIsLogarithmicInFanout() {
+        for (int i = 0; i < 100_000; i++) {
+            tree.insert(i);
+        }
+
+        assertThat(tree.size()).isEqualTo(100_000);
+        assertThat(tree.depth()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @Order(8)
+    void randomInsertionsWithSmallFanoutMatchTreeSet() {
+        tree = new BPlusTree<>(4);
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 20_000; i++) {
+            int element = random.nextInt(10_000);
+            assertThat(tree.insert(element)).isEqualTo(expected.add(element));
+        }
+
+        assertThat(tree.size()).isEqualTo(expected.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(tree.contains(i)).isEqualTo(expected.contains(i));
+        }
+    }
+
+    @Test
+    @Order(9)
+    void inOrderTraversal() {
+        Random random = new Random(6);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            int element = random.nextInt();
+            tree.insert(element);
+            expected.add(element);
+        }
+
+        List<Integer> traversed = new ArrayList<>();
+        tree.inOrderTraversal(traversed::add);
+
+        assertThat(traversed).isEqualTo(new ArrayList<>(expected));
+    }
+
+    @Test
+    @Order(10)
+    void inOrderTraversalOfEmptyTree() {
+        List<Integer> traversed = new ArrayList<>();
+        tree.inOrderTraversal(traversed::add);
+
+        assertThat(traversed).isEmpty();
+    }
+}
@@ -0,0 +1,165 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LockFreeSkipListTest {
+
+    private BinarySearchTree<Integer> skipList = new LockFreeSkipList<>();
+
+    @Test
+    @Order(1)
+    void insert() {
+        assertThat(skipList.insert(10)).isTrue();
+        assertThat(skipList.insert(5)).isTrue();
+        assertThat(skipList.insert(10)).isFalse();
+
+        assertThat(skipList.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(2)
+    void insertAndContainsNull() {
+        assertThatNullPointerException().isThrownBy(() -> skipList.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> skipList.contains(null));
+    }
+
+    @Test
+    @Order(3)
+    void contains() {
+        LockFreeSkipList<Integer> list = LockFreeSkipList.of(5, 3, 8, 1);
+
+        assertThat(list.contains(3)).isTrue();
+        assertThat(list.contains(8)).isTrue();
+        assertThat(list.contains(4)).isFalse();
+        assertThat(list.contains(9)).isFalse();
+    }
+
+    @Test
+    @Order(4)
+    void emptySkipList() {
+        List<Integer> traversed = new ArrayList<>();
+        skipList.inOrderTraversal(traversed::add);
+
+        assertThat(skipList.size()).isEqualTo(0);
+        assertThat(skipList.depth()).isEqualTo(0);
+        assertThat(skipList.contains(1)).isFalse();
+        assertThat(traversed).isEmpty();
+    }
+
+    @Test
+    @Order(5)
+    void randomInsertionsMatchTreeSet() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(8);
+        for (int i = 0; i < 50_000; i++) {
+            int element = random.nextInt(40_000);
+            assertThat(skipList.insert(element)).isEqualTo(expected.add(element));
+        }
+
+        List<Integer> traversed = new ArrayList<>();
+        skipList.inOrderTraversal(traversed::add);
+
+        assertThat(skipList.size()).isEqualTo(expected.size());
+        assertThat(traversed).isEqualTo(new ArrayList<>(expected));
+        for (int i = 0; i < 40_000; i++) {
+            assertThat(skipList.contains(i)).isEqualTo(expected.contains(i));
+        }
+    }
+
+    @Test
+    @Order(6)
+    void depthIsLogarithmic() {
+        for (int i = 0; i < 100_000; i++) {
+            skipList.insert(i);
+        }
+
+        assertThat(skipList.depth()).isBetween(10, 40);
+    }
+
+    @Test
+    @Order(7)
+    void concurrentInsertionsFromOneToThirtyTwoThreads() throws Exception {
+        for (int threads = 1; threads <= 32; threads *= 2) {
+            skipList = new LockFreeSkipList<>();
+            int elementsPerThread = 20_000;
+            AtomicInteger inserted = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    Random random = new Random(seed);
+                    for (int i = 0; i < elementsPerThread; i++) {
+                        if (skipList.insert(random.nextInt(100_000))) {
+                            inserted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            TreeSet<Integer> expected = new TreeSet<>();
+            for (int t = 0; t < threads; t++) {
+                Random random = new Random(t);
+                for (int i = 0; i < elementsPerThread; i++) {
+                    expected.add(random.nextInt(100_000));
+                }
+            }
+            List<Integer> traversed = new ArrayList<>();
+            skipList.inOrderTraversal(traversed::add);
+
+            assertThat(inserted.get()).isEqualTo(expected.size());
+            assertThat(skipList.size()).isEqualTo(expected.size());
+            assertThat(traversed).isEqualTo(new ArrayList<>(expected));
+        }
+    }
+
+    @Test
+    @Order(8)
+    void traversalIsSortedDuringConcurrentInsertions() throws Exception {
+        Thread writer = new Thread(() -> {
+            Random random = new Random(9);
+            for (int i = 0; i < 100_000; i++) {
+                skipList.insert(random.nextInt());
+            }
+        });
+        writer.start();
+        boolean sorted = true;
+        while (writer.isAlive()) {
+            int[] previous = {Integer.MIN_VALUE};
+            boolean[] ordered = {true};
+            skipList.inOrderTraversal(element -> {
+                ordered[0] &= element >= previous[0];
+                previous[0] = element;
+            });
+            sorted &= ordered[0];
+        }
+        writer.join();
+
+        assertThat(sorted).isTrue();
+    }
+}
@@ -0,0 +1,202 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MappedBPlusTreeTest {
+
+    private Path file;
+
+    private MappedBPlusTree<Integer> tree;
+
+    @BeforeEach
+    void openTree() throws IOException {
+        file = Files.createTempFile("mapped-b-plus-tree", ".db");
+        Files.delete(file);
+        tree = MappedBPlusTree.open(file, KeyCodec.integers());
+    }
+
+    @AfterEach
+    void deleteFile() throws IOException {
+        tree.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @Order(1)
+    void insert() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(5)).isTrue();
+        assertThat(tree.insert(10)).isFalse();
+
+        assertThat(tree.size()).isEqualTo(2);
+        assertThat(tree.contains(5)).isTrue();
+        assertThat(tree.contains(7)).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    void insertAndContainsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    @Order(3)
+    void emptyTree() {
+        List<Integer> traversed = new ArrayList<>();
+        tree.inOrderTraversal(traversed::add);
+
+        assertThat(tree.size()).isEqualTo(0);
+        assertThat(tree.depth()).isEqualTo(0);
+        assertThat(tree.contains(1)).isFalse();
+        assertThat(traversed).isEmpty();
+    }
+
+    @Test
+    @Order(4)
+    void randomInsertionsWithSmallCacheMatchTreeSet() throws IOException {
+        tree.close();
+        tree = MappedBPlusTree.open(file, KeyCodec.integers(), 4);
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            int element = random.nextInt(300_000);
+            assertThat(tree.insert(element)).isEqualTo(expected.add(element));
+        }
+
+        List<Integer> traversed = new ArrayList<>();
+        tree.inOrderTraversal(traversed::add);
+
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(tree.depth()).isEqualTo(1);
+        assertThat(traversed).isEqualTo(new ArrayList<>(expected));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(tree.contains(i)).isEqualTo(expected.contains(i));
+        }
+    }
+
+    @Test
+    @Order(5)
+    void reopenedTreeContainsCommittedElements() throws IOException {
+        for (int i = 0; i < 50_000; i++) {
+            tree.insert(i);
+        }
+        int depth = tree.depth();
+        tree.close();
+
+        tree = MappedBPlusTree.open(file, KeyCodec.integers());
+
+        assertThat(tree.size()).isEqualTo(50_000);
+        assertThat(tree.depth()).isEqualTo(depth);
+        assertThat(tree.contains(0)).isTrue();
+        assertThat(tree.contains(49_999)).isTrue();
+        assertThat(tree.contains(50_000)).isFalse();
+        assertThat(tree.insert(50_000)).isTrue();
+    }
+
+    @Test
+    @Order(6)
+    void uncommittedChangesDoNotModifyCommittedTree() throws IOException {
+        for (int i = 0; i < 10_000; i += 2) {
+            tree.insert(i);
+        }
+        tree.commit();
+        for (int i = 1; i < 10_000; i += 2) {
+            tree.insert(i);
+        }
+
+        try (MappedBPlusTree<Integer> committedTree = MappedBPlusTree.open(file, KeyCodec.integers())) {
+            List<Integer> traversed = new ArrayList<>();
+            committedTree.inOrderTraversal(traversed::add);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 10_000; i += 2) {
+                expected.add(i);
+            }
+
+            assertThat(committedTree.size()).isEqualTo(5000);
+            assertThat(traversed).isEqualTo(expected);
+        }
+        assertThat(tree.size()).isEqualTo(10_000);
+        assertThat(tree.contains(9999)).isTrue();
+    }
+
+    @Test
+    @Order(7)
+    void corruptedHeaderFallsBackToPreviousCommit() throws IOException {
+        tree.insert(1);
+        tree.commit();
+        tree.insert(2);
+        tree.close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), 10);
+        }
+
+        tree = MappedBPlusTree.open(file, KeyCodec.integers());
+
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.contains(1)).isTrue();
+        assertThat(tree.contains(2)).isFalse();
+    }
+
+    @Test
+    @Order(8)
+    void openThrowsExceptionIfFileIsNotTree() throws IOException {
+        Path otherFile = Files.createTempFile("not-a-tree", ".db");
+        try {
+            Files.write(otherFile, new byte[]{1, 2, 3});
+
+            assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(() -> MappedBPlusTree.open(otherFile, KeyCodec.integers()));
+        } finally {
+            Files.delete(otherFile);
+        }
+    }
+
+    @Test
+    @Order(9)
+    void openThrowsExceptionIfKeySizeDoesNotMatch() throws IOException {
+        tree.close();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> MappedBPlusTree.open(file, KeyCodec.longs()));
+    }
+
+    @Test
+    @Order(10)
+    void treeOfLongs() throws IOException {
+        Path longsFile = Files.createTempFile("mapped-b-plus-tree-of-longs", ".db");
+        Files.delete(longsFile);
+        try (MappedBPlusTree<Long> longsTree = MappedBPlusTree.open(longsFile, KeyCodec.longs())) {
+            for (long i = 0; i < 10_000; i++) {
+                longsTree.insert(i * Integer.MAX_VALUE);
+            }
+
+            assertThat(longsTree.contains(9999L * Integer.MAX_VALUE)).isTrue();
+            assertThat(longsTree.contains(1L)).isFalse();
+            assertThat(longsTree.depth()).isEqualTo(1);
+        } finally {
+            Files.delete(longsFile);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PageCacheTest {
+
+    private PageCache<String> cache = new PageCache<>(3);
+
+    @Test
+    @Order(1)
+    void getReturnsPutPage() {
+        cache.put(1, "one");
+        cache.put(2, "two");
+
+        assertThat(cache.get(1)).isEqualTo("one");
+        assertThat(cache.get(2)).isEqualTo("two");
+        assertThat(cache.get(3)).isNull();
+    }
+
+    @Test
+    @Order(2)
+    void putReplacesCachedPage() {
+        cache.put(1, "one");
+        cache.put(1, "new one");
+
+        assertThat(cache.get(1)).isEqualTo("new one");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(3)
+    void sizeDoesNotExceedCapacity() {
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "page " + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get(99)).isEqualTo("page 99");
+    }
+
+    @Test
+    @Order(4)
+    void recentlyUsedPageSurvivesEviction() {
+        cache.put(1, "one");
+        cache.put(2, "two");
+        cache.put(3, "three");
+        cache.put(4, "four");
+        cache.get(2);
+
+        cache.put(5, "five");
+
+        assertThat(cache.get(2)).isEqualTo("two");
+        assertThat(cache.get(3)).isNull();
+        assertThat(cache.get(4)).isEqualTo("four");
+        assertThat(cache.get(5)).isEqualTo("five");
+    }
+
+    @Test
+    @Order(5)
+    void constructorThrowsExceptionIfCapacityIsNotPositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new PageCache<String>(0));
+    }
+}
@@ -18,6 +18,7 @@ import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -249,6 +250,85 @@ class RecursiveBinarySearchTreeTest {
         assertThat(traversedElements).isEqualTo(List.of(sortedElements));
     }
 
+    @Test
+    @Order(20)
+    void operationsOnDegenerateTreeDoNotOverflowStack() {
+        int n = 200_000;
+        fillDegenerateTestTree(n);
+
+        assertThat(tree.contains(n - 1)).isTrue();
+        assertThat(tree.contains(n)).isFalse();
+        assertThat(tree.depth()).isEqualTo(n - 1);
+        assertThat(tree.insert(n)).isTrue();
+        assertThat(tree.depth()).isEqualTo(n);
+
+        int[] expected = {0};
+        tree.inOrderTraversal(element -> assertThat(element).isEqualTo(expected[0]++));
+        assertThat(expected[0]).isEqualTo(n + 1);
+    }
+
+    @Test
+    @Order(21)
+    void ofBuildsBalancedTree() {
+        tree = RecursiveBinarySearchTree.of(7, 3, 1, 5, 0, 6, 2, 4, 3, 7);
+
+        assertThat(tree.size()).isEqualTo(8);
+        assertThat(tree.depth()).isEqualTo(3);
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.inOrderTraversal(traversedElements::add);
+        assertThat(traversedElements).isEqualTo(List.of(0, 1, 2, 3, 4, 5, 6, 7));
+    }
+
+    @Test
+    @Order(22)
+    void ofSortedBuildsBalancedTree() {
+        Integer[] elements = new Integer[100_000];
+        Arrays.setAll(elements, i -> i);
+
+        tree = RecursiveBinarySearchTree.ofSorted(elements);
+
+        assertThat(tree.size()).isEqualTo(elements.length);
+        assertThat(tree.depth()).isEqualTo(16);
+        assertThat(tree.contains(elements.length - 1)).isTrue();
+        assertThat(tree.contains(elements.length)).isFalse();
+    }
+
+    @Test
+    @Order(23)
+    void ofSortedThrowsExceptionIfElementsAreNotSorted() {
+        assertThatIllegalArgumentException().isThrownBy(() -> RecursiveBinarySearchTree.ofSorted(1, 3, 2));
+    }
+
+    @Test
+    @Order(24)
+    void ofSortedIgnoresDuplicates() {
+        tree = RecursiveBinarySearchTree.ofSorted(1, 1, 2, 3, 3, 3);
+
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.depth()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(25)
+    void ofParallelBuildsBalancedTree() {
+        Integer[] elements = new Integer[100_000];
+        Arrays.setAll(elements, i -> elements.length - i);
+
+        tree = RecursiveBinarySearchTree.ofParallel(elements);
+
+        assertThat(tree.size()).isEqualTo(elements.length);
+        assertThat(tree.depth()).isEqualTo(16);
+        int[] expected = {1};
+        tree.inOrderTraversal(element -> assertThat(element).isEqualTo(expected[0]++));
+        assertThat(expected[0]).isEqualTo(elements.length + 1);
+    }
+
+    @Test
+    @Order(26)
+    void ofThrowsExceptionIfElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> RecursiveBinarySearchTree.of(1, null, 2));
+    }
+
     public static Stream<Arguments> depthArguments() {
         return Stream.of(
                 //empty tree
@@ -436,6 +516,22 @@ class RecursiveBinarySearchTreeTest {
         }
     }
 
+    /**
+     * Builds a tree of elements 0..n-1 where each node has only a right child, without recursion.
+     */
+    @SneakyThrows
+    private void fillDegenerateTestTree(int n) {
+        tree = new RecursiveBinarySearchTree<>();
+        Object node = newNode(0);
+        getRootField().set(tree, node);
+        for (int i = 1; i < n; i++) {
+            Object nextNode = newNode(i);
+            getNodesField(node, RIGHT_FIELD).set(node, nextNode);
+            node = nextNode;
+        }
+        getInnerSizeField().set(tree, n);
+    }
+
     @SneakyThrows
     private void fillTestTree(Integer... elements) {
         tree = new RecursiveBinarySearchTree<>();
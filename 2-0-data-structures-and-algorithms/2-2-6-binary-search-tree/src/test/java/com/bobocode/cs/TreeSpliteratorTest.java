@@ -0,0 +1,165 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TreeSpliteratorTest {
+
+    @Test
+    @Order(1)
+    void characteristics() {
+        Spliterator<Integer> spliterator = RecursiveBinarySearchTree.of(3, 1, 2).spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SORTED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.DISTINCT)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.NONNULL)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.getComparator()).isNull();
+        assertThat(spliterator.estimateSize()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(2)
+    void spliteratorOfEmptyTree() {
+        Spliterator<Integer> spliterator = new RecursiveBinarySearchTree<Integer>().spliterator();
+
+        assertThat(spliterator.trySplit()).isNull();
+        assertThat(spliterator.tryAdvance(element -> {
+        })).isFalse();
+        assertThat(spliterator.estimateSize()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(3)
+    void tryAdvanceTraversesInOrder() {
+        Spliterator<Integer> spliterator = AvlBinarySearchTree.of(5, 3, 8, 1, 4).spliterator();
+
+        List<Integer> traversed = new ArrayList<>();
+        while (spliterator.tryAdvance(traversed::add)) {
+            assertThat(spliterator.estimateSize()).isEqualTo(5 - traversed.size());
+        }
+
+        assertThat(traversed).isEqualTo(List.of(1, 3, 4, 5, 8));
+    }
+
+    @Test
+    @Order(4)
+    void firstSplitOfBalancedTreeIsHalf() {
+        Integer[] elements = new Integer[1023];
+        Arrays.setAll(elements, i -> i);
+        Spliterator<Integer> spliterator = RecursiveBinarySearchTree.ofSorted(elements).spliterator();
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        List<Integer> prefixElements = new ArrayList<>();
+        prefix.forEachRemaining(prefixElements::add);
+        assertThat(prefixElements).hasSize(511);
+        assertThat(prefixElements.get(0)).isEqualTo(0);
+        assertThat(prefixElements.get(510)).isEqualTo(510);
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+    }
+
+    @Test
+    @Order(5)
+    void recursiveSplitsKeepEncounterOrderOfBalancedTree() {
+        Integer[] elements = new Integer[10_000];
+        Arrays.setAll(elements, i -> i);
+
+        assertThat(splitAll(RecursiveBinarySearchTree.ofSorted(elements).spliterator()))
+                .isEqualTo(Arrays.asList(elements));
+    }
+
+    @Test
+    @Order(6)
+    void recursiveSplitsKeepEncounterOrderOfRandomAndDegenerateTrees() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            elements.add(i);
+        }
+        BinarySearchTree<Integer> degenerateTree = new RecursiveBinarySearchTree<>();
+        elements.forEach(degenerateTree::insert);
+        Collections.shuffle(elements, new Random(10));
+        BinarySearchTree<Integer> randomTree = new RecursiveBinarySearchTree<>();
+        elements.forEach(randomTree::insert);
+        Collections.sort(elements);
+
+        assertThat(splitAll(degenerateTree.spliterator())).isEqualTo(elements);
+        assertThat(splitAll(randomTree.spliterator())).isEqualTo(elements);
+    }
+
+    @Test
+    @Order(7)
+    void splitAfterPartialTraversal() {
+        Integer[] elements = new Integer[100];
+        Arrays.setAll(elements, i -> i);
+        Spliterator<Integer> spliterator = AvlBinarySearchTree.ofSorted(elements).spliterator();
+        List<Integer> traversed = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            spliterator.tryAdvance(traversed::add);
+        }
+
+        traversed.addAll(splitAll(spliterator));
+
+        assertThat(traversed).isEqualTo(Arrays.asList(elements));
+    }
+
+    @Test
+    @Order(8)
+    void parallelStreamKeepsEncounterOrder() {
+        Integer[] elements = new Integer[200_000];
+        Arrays.setAll(elements, i -> elements.length - i);
+        BinarySearchTree<Integer> tree = AvlBinarySearchTree.ofParallel(elements);
+
+        List<Integer> doubled = tree.parallelStream()
+                .map(element -> element * 2)
+                .collect(Collectors.toList());
+        List<Integer> ordered = new ArrayList<>();
+        tree.parallelStream().forEachOrdered(ordered::add);
+
+        assertThat(doubled).hasSize(elements.length);
+        for (int i = 0; i < doubled.size(); i++) {
+            assertThat(doubled.get(i)).isEqualTo(2 * (i + 1));
+        }
+        assertThat(ordered).isEqualTo(tree.stream().collect(Collectors.toList()));
+        assertThat(tree.parallelStream().mapToLong(Integer::longValue).sum())
+                .isEqualTo((long) elements.length * (elements.length + 1) / 2);
+    }
+
+    @Test
+    @Order(9)
+    void defaultSpliteratorOfOtherTrees() {
+        BinarySearchTree<Integer> bPlusTree = BPlusTree.of(5, 3, 8, 1);
+        BinarySearchTree<Integer> skipList = LockFreeSkipList.of(5, 3, 8, 1);
+
+        assertThat(bPlusTree.parallelStream().collect(Collectors.toList())).isEqualTo(List.of(1, 3, 5, 8));
+        assertThat(skipList.stream().collect(Collectors.toList())).isEqualTo(List.of(1, 3, 5, 8));
+        assertThat(bPlusTree.spliterator().hasCharacteristics(Spliterator.SORTED)).isTrue();
+    }
+
+    /**
+     * Splits a spliterator until it can not be split anymore and concatenates the pieces, prefixes first.
+     */
+    private List<Integer> splitAll(Spliterator<Integer> spliterator) {
+        List<Integer> elements = new ArrayList<>();
+        Spliterator<Integer> prefix;
+        while ((prefix = spliterator.trySplit()) != null) {
+            elements.addAll(splitAll(prefix));
+        }
+        spliterator.forEachRemaining(elements::add);
+        return elements;
+    }
+}
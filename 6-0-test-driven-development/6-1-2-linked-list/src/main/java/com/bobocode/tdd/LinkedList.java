@@ -3,6 +3,8 @@ package com.bobocode.tdd;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.util.ListIterator;
+
 /**
  * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
  * inner static class {@link Node<T>}.
@@ -140,4 +142,19 @@ public class LinkedList<T> implements List<T> {
     public void clear() {
         throw new ExerciseNotCompletedException(); // todo: implement this method
     }
+
+    /**
+     * Returns a list iterator (a cursor) that starts at the specific position in the list. Operations
+     * {@link ListIterator#add(Object)}, {@link ListIterator#set(Object)} and {@link ListIterator#remove()} should relink
+     * nodes around the cursor and be performed in constant time O(1). The iterator should be fail-fast and throw
+     * {@link java.util.ConcurrentModificationException} if the list is structurally modified by anything other than
+     * the iterator itself. In case provided index in out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param index an index of the element that is returned by the first call to {@link ListIterator#next()}
+     * @return a list iterator over the list elements
+     */
+    public ListIterator<T> listIterator(int index) {
+        throw new ExerciseNotCompletedException(); // todo: implement this method
+    }
 }